@@ -0,0 +1,74 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки заполнения списка: поэлементный {@code add} и пакетный {@code addAll}
+ * в новый пустой список. Время операции включает все расширения массива.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddBenchmark {
+
+    @Benchmark
+    public Object customAdd(ListState state) {
+        DefaultCustomArrayList<Object> list = new DefaultCustomArrayList<>();
+        for (Object element : state.elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object arrayListAdd(ListState state) {
+        ArrayList<Object> list = new ArrayList<>();
+        for (Object element : state.elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object arrayDequeAdd(ListState state) {
+        ArrayDeque<Object> deque = new ArrayDeque<>();
+        for (Object element : state.elements) {
+            deque.add(element);
+        }
+        return deque;
+    }
+
+    @Benchmark
+    public Object customAddAll(ListState state) {
+        DefaultCustomArrayList<Object> list = new DefaultCustomArrayList<>();
+        list.addAll(state.source);
+        return list;
+    }
+
+    @Benchmark
+    public Object arrayListAddAll(ListState state) {
+        ArrayList<Object> list = new ArrayList<>();
+        list.addAll(state.source);
+        return list;
+    }
+
+    @Benchmark
+    public Object arrayDequeAddAll(ListState state) {
+        ArrayDeque<Object> deque = new ArrayDeque<>();
+        deque.addAll(state.source);
+        return deque;
+    }
+}
@@ -0,0 +1,91 @@
+package com.edu.benchmark;
+
+import com.edu.ConcurrentAppendBuffer;
+import com.edu.ConcurrentCustomArrayList;
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность добавления в общий список из нескольких потоков-производителей:
+ * {@link DefaultCustomArrayList} под общей блокировкой, {@link ConcurrentCustomArrayList}
+ * и {@link ConcurrentAppendBuffer}. В конце каждой итерации собранные элементы переносятся
+ * в один {@link DefaultCustomArrayList}, а накопленное состояние сбрасывается.
+ * <p>
+ * Количество потоков задаётся опцией {@code -t}; прогон по 1–64 потокам выполняет
+ * {@link AppendBufferBenchmarkRunner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppendBufferBenchmark {
+
+    @Param({"locked", "concurrent", "buffer"})
+    public String implementation;
+
+    private final Integer element = 42;
+
+    private DefaultCustomArrayList<Integer> locked;
+    private ConcurrentCustomArrayList<Integer> concurrent;
+    private ConcurrentAppendBuffer<Integer> buffer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        locked = new DefaultCustomArrayList<>();
+        concurrent = new ConcurrentCustomArrayList<>();
+        buffer = new ConcurrentAppendBuffer<>();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        CustomArrayList<Integer> result = new DefaultCustomArrayList<>();
+        switch (implementation) {
+            case "locked":
+                result.addAllFrom(locked);
+                break;
+            case "concurrent":
+                result.addAllFrom(concurrent);
+                break;
+            default:
+                buffer.drainTo(result);
+                break;
+        }
+        locked = null;
+        concurrent = null;
+        buffer = null;
+        if (result.isEmpty()) {
+            throw new IllegalStateException("Итерация не добавила ни одного элемента");
+        }
+    }
+
+    @Benchmark
+    public boolean add() {
+        switch (implementation) {
+            case "locked":
+                synchronized (locked) {
+                    return locked.add(element);
+                }
+            case "concurrent":
+                return concurrent.add(element);
+            default:
+                return buffer.add(element);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.edu.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Запускает {@link AppendBufferBenchmark} последовательно на 1, 2, 4, 8, 16, 32 и 64 потоках
+ * и сохраняет результаты каждого прогона в {@code target/jmh-append-<N>t.json}.
+ * <p>
+ * Запуск: {@code java -cp target/benchmarks.jar com.edu.benchmark.AppendBufferBenchmarkRunner}.
+ */
+public final class AppendBufferBenchmarkRunner {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    private AppendBufferBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(AppendBufferBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("target/jmh-append-" + threads + "t.json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.edu.benchmark;
+
+import com.edu.ChunkedCustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Распределение задержек отдельных операций (режим {@link Mode#SampleTime}, в отчёте —
+ * перцентили p50/p99/p99.99) для {@link ChunkedCustomArrayList} и плоского массива.
+ * <p>
+ * {@code append*} добавляет элементы в конец, пока список не достигнет {@code size},
+ * после чего список очищается: у плоского массива редкие добавления копируют весь массив,
+ * что видно в старших перцентилях. {@code middle*} вставляет элемент в середину списка
+ * размера {@code size} и удаляет его; эталоном служит {@link ArrayList}, так как
+ * у {@link DefaultCustomArrayList} нет удаления по индексу.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ChunkedLatencyBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"1024", "4096"})
+    public int chunkSize;
+
+    private final Integer element = 42;
+
+    private DefaultCustomArrayList<Integer> flatAppend;
+    private ChunkedCustomArrayList<Integer> chunkedAppend;
+    private ArrayList<Integer> flatMiddle;
+    private ChunkedCustomArrayList<Integer> chunkedMiddle;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        flatAppend = new DefaultCustomArrayList<>();
+        chunkedAppend = new ChunkedCustomArrayList<>(chunkSize);
+        flatMiddle = new ArrayList<>(size);
+        chunkedMiddle = new ChunkedCustomArrayList<>(chunkSize);
+        for (int i = 0; i < size; i++) {
+            flatMiddle.add(i);
+            chunkedMiddle.add(i);
+        }
+    }
+
+    @Benchmark
+    public boolean flatAppend() {
+        if (flatAppend.size() == size) {
+            flatAppend.clear();
+        }
+        return flatAppend.add(element);
+    }
+
+    @Benchmark
+    public boolean chunkedAppend() {
+        if (chunkedAppend.size() == size) {
+            chunkedAppend.clear();
+        }
+        return chunkedAppend.add(element);
+    }
+
+    @Benchmark
+    public Object flatMiddle() {
+        int middle = size / 2;
+        flatMiddle.add(middle, element);
+        return flatMiddle.remove(middle);
+    }
+
+    @Benchmark
+    public Object chunkedMiddle() {
+        int middle = size / 2;
+        chunkedMiddle.add(middle, element);
+        return chunkedMiddle.removeAt(middle);
+    }
+}
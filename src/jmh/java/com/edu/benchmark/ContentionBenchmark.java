@@ -0,0 +1,160 @@
+package com.edu.benchmark;
+
+import com.edu.ConcurrentCustomArrayList;
+import com.edu.CustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк конкурентного доступа к общему списку: каждый поток выполняет смесь
+ * чтений ({@code get}, {@code contains}) и записей ({@code add} с последующим {@code remove}).
+ * Доля записей задаётся параметром {@code writePercent}.
+ * <p>
+ * Сравниваются {@link ConcurrentCustomArrayList}, {@link Collections#synchronizedList(List)}
+ * и {@link CopyOnWriteArrayList}. Количество потоков задаётся опцией {@code -t};
+ * прогон по 1–64 потокам выполняет {@link ContentionBenchmarkRunner}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    /**
+     * Минимальный общий интерфейс сравниваемых списков.
+     */
+    interface SharedList {
+        Object get(int index);
+
+        boolean contains(Object element);
+
+        void add(Object element);
+
+        void remove(Object element);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedState {
+
+        @Param({"custom", "synchronized", "copyOnWrite"})
+        public String implementation;
+
+        @Param({"1000", "100000"})
+        public int size;
+
+        @Param({"0", "10", "50"})
+        public int writePercent;
+
+        SharedList list;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            switch (implementation) {
+                case "custom":
+                    list = custom(new ConcurrentCustomArrayList<>(size));
+                    break;
+                case "synchronized":
+                    list = javaList(Collections.synchronizedList(new ArrayList<>(size)));
+                    break;
+                case "copyOnWrite":
+                    list = javaList(new CopyOnWriteArrayList<>());
+                    break;
+                default:
+                    throw new IllegalArgumentException(implementation);
+            }
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+            }
+        }
+
+        private static SharedList custom(CustomArrayList<Object> list) {
+            return new SharedList() {
+                @Override
+                public Object get(int index) {
+                    return list.get(index);
+                }
+
+                @Override
+                public boolean contains(Object element) {
+                    return list.contains(element);
+                }
+
+                @Override
+                public void add(Object element) {
+                    list.add(element);
+                }
+
+                @Override
+                public void remove(Object element) {
+                    list.remove(element);
+                }
+            };
+        }
+
+        private static SharedList javaList(List<Object> list) {
+            return new SharedList() {
+                @Override
+                public Object get(int index) {
+                    return list.get(index);
+                }
+
+                @Override
+                public boolean contains(Object element) {
+                    return list.contains(element);
+                }
+
+                @Override
+                public void add(Object element) {
+                    list.add(element);
+                }
+
+                @Override
+                public void remove(Object element) {
+                    list.remove(element);
+                }
+            };
+        }
+    }
+
+    /**
+     * Собственный генератор случайных чисел каждого потока.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public Object mixed(SharedState shared, ThreadState thread) {
+        int dice = thread.random.nextInt(100);
+        int index = thread.random.nextInt(shared.size);
+        if (dice < shared.writePercent) {
+            Object element = -index - 1;
+            shared.list.add(element);
+            shared.list.remove(element);
+            return element;
+        }
+        if ((dice & 1) == 0) {
+            return shared.list.get(index);
+        }
+        return shared.list.contains(index);
+    }
+}
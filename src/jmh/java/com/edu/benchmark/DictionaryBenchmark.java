@@ -0,0 +1,108 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import com.edu.DictionaryCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает {@link DictionaryCustomArrayList} и {@link DefaultCustomArrayList} на списке
+ * из {@code size} строк с {@code distinct} различными значениями. Поиск отсутствующего
+ * значения у словарного списка завершается в словаре, поиск редкого значения в конце
+ * списка просматривает весь массив кодов. Заполнение запускается с {@code -prof gc}:
+ * {@code gc.alloc.rate.norm} отражает размер массива кодов против массива ссылок.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"16", "1000"})
+    public int distinct;
+
+    private String[] values;
+    private String last;
+    private String absent;
+
+    private DefaultCustomArrayList<String> defaultList;
+    private DictionaryCustomArrayList<String> dictionaryList;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] dictionary = new String[distinct + 1];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = "value-" + i;
+        }
+        values = new String[size];
+        for (int i = 0; i < size - 1; i++) {
+            values[i] = dictionary[random.nextInt(distinct)];
+        }
+        values[size - 1] = dictionary[distinct];
+        last = new String(dictionary[distinct]);
+        absent = "missing";
+
+        defaultList = new DefaultCustomArrayList<>();
+        dictionaryList = new DictionaryCustomArrayList<>();
+        for (String value : values) {
+            defaultList.add(value);
+            dictionaryList.add(value);
+        }
+    }
+
+    @Benchmark
+    public boolean defaultContainsLast() {
+        return defaultList.contains(last);
+    }
+
+    @Benchmark
+    public boolean dictionaryContainsLast() {
+        return dictionaryList.contains(last);
+    }
+
+    @Benchmark
+    public boolean defaultContainsAbsent() {
+        return defaultList.contains(absent);
+    }
+
+    @Benchmark
+    public boolean dictionaryContainsAbsent() {
+        return dictionaryList.contains(absent);
+    }
+
+    @Benchmark
+    public int defaultFill() {
+        DefaultCustomArrayList<String> list = new DefaultCustomArrayList<>(size);
+        for (String value : values) {
+            list.add(value);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int dictionaryFill() {
+        DictionaryCustomArrayList<String> list = new DictionaryCustomArrayList<>(size);
+        for (String value : values) {
+            list.add(value);
+        }
+        return list.size();
+    }
+}
@@ -0,0 +1,50 @@
+package com.edu.benchmark;
+
+/**
+ * Тип элементов, которыми заполняются списки в бенчмарках.
+ * <p>
+ * Каждый тип создаёт набор попарно различных элементов, чтобы операции
+ * поиска ({@code contains}, {@code remove}) проходили честный линейный скан.
+ */
+public enum ElementType {
+    INTEGER {
+        @Override
+        public Object create(int i) {
+            return i;
+        }
+    },
+    STRING {
+        @Override
+        public Object create(int i) {
+            return "element-" + i;
+        }
+    },
+    POINT {
+        @Override
+        public Object create(int i) {
+            return new Point(i, -i);
+        }
+    };
+
+    /**
+     * Создаёт элемент с порядковым номером {@code i}.
+     *
+     * @param i порядковый номер элемента.
+     * @return новый элемент.
+     */
+    public abstract Object create(int i);
+
+    /**
+     * Создаёт массив из {@code size} попарно различных элементов.
+     *
+     * @param size количество элементов.
+     * @return массив элементов.
+     */
+    public Object[] createAll(int size) {
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = create(i);
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,75 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import com.edu.RingCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Очередь FIFO постоянной глубины {@code depth}: каждый вызов добавляет элемент в хвост
+ * и извлекает самый старый элемент из головы. Сравниваются {@link RingCustomArrayList},
+ * {@link ArrayDeque} и {@link DefaultCustomArrayList}, у которого извлечение из головы
+ * ({@code remove(get(0))}) сдвигает весь массив.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FifoBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    public int depth;
+
+    private final Integer element = 42;
+
+    private RingCustomArrayList<Integer> ring;
+    private ArrayDeque<Integer> arrayDeque;
+    private DefaultCustomArrayList<Integer> custom;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ring = new RingCustomArrayList<>();
+        arrayDeque = new ArrayDeque<>();
+        custom = new DefaultCustomArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            ring.addLast(i);
+            arrayDeque.addLast(i);
+            custom.add(i);
+        }
+    }
+
+    @Benchmark
+    public Object ring() {
+        ring.addLast(element);
+        return ring.pollFirst();
+    }
+
+    @Benchmark
+    public Object arrayDeque() {
+        arrayDeque.addLast(element);
+        return arrayDeque.pollFirst();
+    }
+
+    @Benchmark
+    public Object custom() {
+        custom.add(element);
+        Integer oldest = custom.get(0);
+        custom.remove(oldest);
+        return oldest;
+    }
+}
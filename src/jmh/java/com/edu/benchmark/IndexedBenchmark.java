@@ -0,0 +1,93 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import com.edu.IndexedCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение {@link IndexedCustomArrayList} и {@link DefaultCustomArrayList}: проверка наличия
+ * (в среднем половина списка для линейного поиска) и стоимость заполнения списка с индексом.
+ * Малые размеры позволяют найти точку окупаемости индекса, а {@code -prof gc}
+ * показывает дополнительную память на заполнение.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedBenchmark {
+
+    @Param({"4", "8", "16", "32", "64", "1000", "1000000"})
+    public int size;
+
+    @Param({"INTEGER", "STRING", "POINT"})
+    public ElementType type;
+
+    private Object[] elements;
+    private DefaultCustomArrayList<Object> plain;
+    private IndexedCustomArrayList<Object> indexed;
+
+    /**
+     * Текущий индекс искомого элемента; проходит все элементы по кругу.
+     */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = type.createAll(size);
+        plain = new DefaultCustomArrayList<>(size);
+        indexed = new IndexedCustomArrayList<>(size);
+        for (Object element : elements) {
+            plain.add(element);
+            indexed.add(element);
+        }
+    }
+
+    private Object nextElement() {
+        int i = cursor;
+        cursor = i + 1 == size ? 0 : i + 1;
+        return elements[i];
+    }
+
+    @Benchmark
+    public boolean plainContains() {
+        return plain.contains(nextElement());
+    }
+
+    @Benchmark
+    public boolean indexedContains() {
+        return indexed.contains(nextElement());
+    }
+
+    @Benchmark
+    public Object plainFill() {
+        DefaultCustomArrayList<Object> list = new DefaultCustomArrayList<>(size);
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object indexedFill() {
+        IndexedCustomArrayList<Object> list = new IndexedCustomArrayList<>(size);
+        for (Object element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+}
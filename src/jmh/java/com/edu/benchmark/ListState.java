@@ -0,0 +1,65 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Общее состояние бенчмарков: набор элементов и заранее заполненные списки —
+ * {@link DefaultCustomArrayList} и эталонные {@link ArrayList} / {@link ArrayDeque}.
+ */
+@State(Scope.Benchmark)
+public class ListState {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"INTEGER", "STRING", "POINT"})
+    public ElementType type;
+
+    /**
+     * Элементы, которыми заполнены списки.
+     */
+    public Object[] elements;
+
+    /**
+     * Те же элементы в виде {@link List} — источник для {@code addAll}.
+     */
+    public List<Object> source;
+
+    /**
+     * Элемент, которого нет в списках (поиск проходит весь список).
+     */
+    public Object missing;
+
+    public DefaultCustomArrayList<Object> custom;
+    public ArrayList<Object> arrayList;
+    public ArrayDeque<Object> arrayDeque;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = type.createAll(size);
+        source = Arrays.asList(elements);
+        missing = type.create(size);
+        custom = new DefaultCustomArrayList<>(elements.clone());
+        arrayList = new ArrayList<>(source);
+        arrayDeque = new ArrayDeque<>(source);
+    }
+
+    /**
+     * Возвращает элемент из середины списка.
+     *
+     * @return элемент, находящийся в середине списка.
+     */
+    public Object middle() {
+        return elements[size / 2];
+    }
+}
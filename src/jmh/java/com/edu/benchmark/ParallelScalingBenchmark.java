@@ -0,0 +1,89 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабирование параллельных операций {@link DefaultCustomArrayList} по числу потоков
+ * {@link ForkJoinPool} ({@code threads}). {@code contains} ищет отсутствующий элемент
+ * (полный просмотр), {@code indexOf} — элемент в середине списка, {@code reduce} суммирует
+ * элементы, {@code sort} сортирует перемешанную копию. Ускорение — отношение времени при
+ * {@code threads=1} (последовательное выполнение) ко времени при большем числе потоков.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ParallelScalingBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private DefaultCustomArrayList<Integer> list;
+    private Integer[] shuffled;
+    private Integer middle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        Random random = new Random(1);
+        shuffled = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            shuffled[i] = random.nextInt();
+        }
+        list = new DefaultCustomArrayList<>(shuffled);
+        list.setForkJoinPool(pool);
+        middle = list.get(size / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.parallelContains(Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.parallelIndexOf(middle);
+    }
+
+    @Benchmark
+    public Integer reduce() {
+        return list.reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Object sort() {
+        DefaultCustomArrayList<Integer> copy = new DefaultCustomArrayList<>(shuffled);
+        copy.setForkJoinPool(pool);
+        copy.parallelSort(Comparator.naturalOrder());
+        return copy;
+    }
+}
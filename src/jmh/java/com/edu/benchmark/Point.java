@@ -0,0 +1,42 @@
+package com.edu.benchmark;
+
+import java.util.Objects;
+
+/**
+ * Небольшой неизменяемый объект-значение, используемый в бенчмарках
+ * как пример «маленькой записи» (аналог {@code record} для Java 11).
+ */
+public final class Point {
+    private final int x;
+    private final int y;
+
+    public Point(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Point)) {
+            return false;
+        }
+        Point point = (Point) o;
+        return x == point.x && y == point.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, y);
+    }
+}
@@ -0,0 +1,102 @@
+package com.edu.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций чтения: {@code get} по индексу, {@code contains}
+ * (элемент в середине и отсутствующий элемент) и обход через for-each.
+ * <p>
+ * У {@link java.util.ArrayDeque} нет доступа по индексу, поэтому для {@code get}
+ * эталоном служит только {@link java.util.ArrayList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBenchmark {
+
+    /**
+     * Текущий индекс для {@code get}; проходит список по кругу.
+     */
+    private int cursor;
+
+    private int nextIndex(int size) {
+        int index = cursor;
+        cursor = index + 1 == size ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public Object customGet(ListState state) {
+        return state.custom.get(nextIndex(state.size));
+    }
+
+    @Benchmark
+    public Object arrayListGet(ListState state) {
+        return state.arrayList.get(nextIndex(state.size));
+    }
+
+    @Benchmark
+    public boolean customContainsMiddle(ListState state) {
+        return state.custom.contains(state.middle());
+    }
+
+    @Benchmark
+    public boolean arrayListContainsMiddle(ListState state) {
+        return state.arrayList.contains(state.middle());
+    }
+
+    @Benchmark
+    public boolean arrayDequeContainsMiddle(ListState state) {
+        return state.arrayDeque.contains(state.middle());
+    }
+
+    @Benchmark
+    public boolean customContainsMissing(ListState state) {
+        return state.custom.contains(state.missing);
+    }
+
+    @Benchmark
+    public boolean arrayListContainsMissing(ListState state) {
+        return state.arrayList.contains(state.missing);
+    }
+
+    @Benchmark
+    public boolean arrayDequeContainsMissing(ListState state) {
+        return state.arrayDeque.contains(state.missing);
+    }
+
+    @Benchmark
+    public void customIterate(ListState state, Blackhole blackhole) {
+        for (Object element : state.custom) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void arrayListIterate(ListState state, Blackhole blackhole) {
+        for (Object element : state.arrayList) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void arrayDequeIterate(ListState state, Blackhole blackhole) {
+        for (Object element : state.arrayDeque) {
+            blackhole.consume(element);
+        }
+    }
+}
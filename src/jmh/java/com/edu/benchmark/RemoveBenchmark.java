@@ -0,0 +1,82 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки удаления: {@code remove(E)} элемента из середины и {@code clear} заполненного списка.
+ * Оба выполняются на списках, заново заполненных перед каждым вызовом, поэтому каждое удаление
+ * проходит половину списка и сдвигает вторую половину.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoveBenchmark {
+
+    /**
+     * Состояние для {@code remove} и {@code clear}: списки заново заполняются перед каждым вызовом.
+     */
+    @State(Scope.Thread)
+    public static class FilledState {
+        DefaultCustomArrayList<Object> custom;
+        ArrayList<Object> arrayList;
+        ArrayDeque<Object> arrayDeque;
+
+        @Setup(Level.Invocation)
+        public void fill(ListState state) {
+            custom = new DefaultCustomArrayList<>(state.elements.clone());
+            arrayList = new ArrayList<>(Arrays.asList(state.elements));
+            arrayDeque = new ArrayDeque<>(Arrays.asList(state.elements));
+        }
+    }
+
+    @Benchmark
+    public boolean customRemove(FilledState filled, ListState state) {
+        return filled.custom.remove(state.middle());
+    }
+
+    @Benchmark
+    public boolean arrayListRemove(FilledState filled, ListState state) {
+        return filled.arrayList.remove(state.middle());
+    }
+
+    @Benchmark
+    public boolean arrayDequeRemove(FilledState filled, ListState state) {
+        return filled.arrayDeque.remove(state.middle());
+    }
+
+    @Benchmark
+    public Object customClear(FilledState filled) {
+        filled.custom.clear();
+        return filled.custom;
+    }
+
+    @Benchmark
+    public Object arrayListClear(FilledState filled) {
+        filled.arrayList.clear();
+        return filled.arrayList;
+    }
+
+    @Benchmark
+    public Object arrayDequeClear(FilledState filled) {
+        filled.arrayDeque.clear();
+        return filled.arrayDeque;
+    }
+}
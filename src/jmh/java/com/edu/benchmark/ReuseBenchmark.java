@@ -0,0 +1,81 @@
+package com.edu.benchmark;
+
+import com.edu.ArrayPool;
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * «Запрос» заполняет список до {@code size} элементов и очищает его. Сравниваются новый список
+ * на каждый запрос, очистка по умолчанию (массив сбрасывается до 10 элементов и снова растёт),
+ * режим повторного использования {@link DefaultCustomArrayList#setReuseOnClear(boolean)}
+ * и новый список на каждый запрос с общим {@link ArrayPool}. Экономию показывает
+ * {@code gc.alloc.rate.norm} при запуске с {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReuseBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private final Integer element = 42;
+
+    private DefaultCustomArrayList<Integer> cleared;
+    private DefaultCustomArrayList<Integer> reused;
+    private ArrayPool pool;
+
+    @Setup
+    public void setUp() {
+        cleared = new DefaultCustomArrayList<>();
+        reused = new DefaultCustomArrayList<>();
+        reused.setReuseOnClear(true);
+        pool = new ArrayPool();
+    }
+
+    private int fill(DefaultCustomArrayList<Integer> list) {
+        for (int i = 0; i < size; i++) {
+            list.add(element);
+        }
+        int result = list.size();
+        list.clear();
+        return result;
+    }
+
+    @Benchmark
+    public int fresh() {
+        return fill(new DefaultCustomArrayList<>());
+    }
+
+    @Benchmark
+    public int clearDefault() {
+        return fill(cleared);
+    }
+
+    @Benchmark
+    public int clearReuse() {
+        return fill(reused);
+    }
+
+    @Benchmark
+    public int pooled() {
+        DefaultCustomArrayList<Integer> list = new DefaultCustomArrayList<>(0);
+        list.setArrayPool(pool);
+        return fill(list);
+    }
+}
@@ -0,0 +1,139 @@
+package com.edu.benchmark;
+
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import com.edu.ElementCodec;
+import com.edu.ListChannelCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Запись и чтение {@link DefaultCustomArrayList} из {@code size} чисел {@link Long} через память:
+ * {@link ListChannelCodec} против преобразования в {@link ArrayList} и Java-сериализации
+ * через {@link ObjectOutputStream}. Разницу в мусоре показывает {@code gc.alloc.rate.norm}
+ * при запуске с {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private DefaultCustomArrayList<Long> list;
+    private ListChannelCodec<Long> codec;
+    private MemoryChannel channel;
+    private ByteArrayOutputStream bytes;
+
+    @Setup
+    public void setUp() {
+        list = new DefaultCustomArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            list.add(i * 31);
+        }
+        codec = new ListChannelCodec<>(ElementCodec.longs());
+        channel = new MemoryChannel();
+        bytes = new ByteArrayOutputStream();
+    }
+
+    @TearDown
+    public void tearDown() {
+        codec.close();
+    }
+
+    @Benchmark
+    public int channelCodec() throws IOException {
+        channel.reset();
+        codec.write(list, channel);
+        return codec.read(channel).size();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int objectStream() throws IOException, ClassNotFoundException {
+        bytes.reset();
+        List<Long> copy = new ArrayList<>(list.size());
+        list.forEach(copy::add);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(copy);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            List<Long> read = (List<Long>) in.readObject();
+            CustomArrayList<Long> result = new DefaultCustomArrayList<>(read.size());
+            result.addAll(read);
+            return result.size();
+        }
+    }
+
+    /**
+     * Канал поверх растущего массива в куче: всё записанное затем читается с начала.
+     */
+    static final class MemoryChannel implements ReadableByteChannel, WritableByteChannel {
+        private byte[] data = new byte[1 << 16];
+        private int length;
+        private int position;
+
+        void reset() {
+            length = 0;
+            position = 0;
+        }
+
+        @Override
+        public int write(ByteBuffer source) {
+            int count = source.remaining();
+            if (length + count > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + count));
+            }
+            source.get(data, length, count);
+            length += count;
+            return count;
+        }
+
+        @Override
+        public int read(ByteBuffer target) {
+            if (position == length) {
+                return -1;
+            }
+            int count = Math.min(target.remaining(), length - position);
+            target.put(data, position, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.edu.benchmark;
+
+import com.edu.ChunkedCustomArrayList;
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость снимка и первой записи после него.
+ * <p>
+ * {@code *SnapshotOnly} — сам снимок (O(1)). {@code flatAppend} — снимок и добавление в конец
+ * {@link DefaultCustomArrayList}: запись за пределами разделяемого префикса, без копирования.
+ * {@code flatRemoveLast} — снимок и удаление последнего элемента: первая запись в префикс
+ * копирует весь массив (O(n)). {@code chunkedRemoveLast} — то же для {@link ChunkedCustomArrayList}:
+ * копируются только массив ссылок на блоки и последний блок (O(C + n / C)). {@code fullCopy} —
+ * прежний способ получить согласованное представление: копия списка.
+ * Каждый вызов возвращает список к исходному размеру.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class SnapshotBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private final Integer element = 42;
+
+    private DefaultCustomArrayList<Integer> flat;
+    private ChunkedCustomArrayList<Integer> chunked;
+    private ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        flat = new DefaultCustomArrayList<>(size + 1);
+        chunked = new ChunkedCustomArrayList<>();
+        arrayList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            flat.add(i);
+            chunked.add(i);
+            arrayList.add(i);
+        }
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> flatSnapshotOnly() {
+        return flat.snapshot();
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> flatAppend() {
+        CustomArrayList<Integer> snapshot = flat.snapshot();
+        flat.add(element);
+        flat.removeRange(size, size + 1);
+        return snapshot;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> flatRemoveLast() {
+        CustomArrayList<Integer> snapshot = flat.snapshot();
+        flat.removeRange(size - 1, size);
+        flat.add(element);
+        return snapshot;
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> chunkedSnapshotOnly() {
+        return chunked.snapshot();
+    }
+
+    @Benchmark
+    public CustomArrayList<Integer> chunkedRemoveLast() {
+        CustomArrayList<Integer> snapshot = chunked.snapshot();
+        chunked.removeAt(size - 1);
+        chunked.add(element);
+        return snapshot;
+    }
+
+    @Benchmark
+    public Object fullCopy() {
+        return new ArrayList<>(arrayList);
+    }
+}
@@ -0,0 +1,156 @@
+package com.edu.benchmark;
+
+import com.edu.DefaultCustomArrayList;
+import com.edu.GrowthStrategy;
+import com.edu.ListStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет накладные расходы {@link ListStats} и событий JFR в {@link DefaultCustomArrayList}.
+ * Базовая линия — {@link BaselineList}, копия {@code add} и {@code contains} до появления
+ * статистики; её сравнивают со списком без статистики и со списком с подключённой статистикой.
+ * Заполнение начинается с ёмкости по умолчанию, поэтому включает все расширения массива;
+ * с {@code -prof gc} видно, что при выключенной записи JFR расширение не выделяет событий.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsOverheadBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Integer[] values;
+    private Integer last;
+
+    private BaselineList<Integer> baselineList;
+    private DefaultCustomArrayList<Integer> plainList;
+    private DefaultCustomArrayList<Integer> statsList;
+    private ListStats stats;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        last = Integer.valueOf(size - 1);
+        stats = new ListStats();
+        baselineList = new BaselineList<>();
+        plainList = new DefaultCustomArrayList<>();
+        statsList = new DefaultCustomArrayList<>();
+        statsList.setStats(stats);
+        for (Integer value : values) {
+            baselineList.add(value);
+            plainList.add(value);
+            statsList.add(value);
+        }
+    }
+
+    @Benchmark
+    public boolean baselineContains() {
+        return baselineList.contains(last);
+    }
+
+    @Benchmark
+    public boolean statsDisabledContains() {
+        return plainList.contains(last);
+    }
+
+    @Benchmark
+    public boolean statsEnabledContains() {
+        return statsList.contains(last);
+    }
+
+    @Benchmark
+    public int baselineAdd() {
+        BaselineList<Integer> list = new BaselineList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list.size;
+    }
+
+    @Benchmark
+    public int statsDisabledAdd() {
+        DefaultCustomArrayList<Integer> list = new DefaultCustomArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list.size();
+    }
+
+    @Benchmark
+    public int statsEnabledAdd() {
+        DefaultCustomArrayList<Integer> list = new DefaultCustomArrayList<>();
+        list.setStats(stats);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list.size();
+    }
+
+    /**
+     * Путь {@code add} и {@code contains} из {@link DefaultCustomArrayList} до появления
+     * {@link ListStats}: та же стратегия роста и ёмкость по умолчанию, без статистики и событий.
+     */
+    static final class BaselineList<E> {
+        private final GrowthStrategy growthStrategy = GrowthStrategy.doubling();
+        private Object[] elementData = new Object[10];
+        private int size;
+        private int modCount;
+
+        boolean add(E element) {
+            if (Objects.isNull(element)) {
+                return false;
+            }
+            if (size == elementData.length) {
+                grow(size + 1);
+            }
+            elementData[size++] = element;
+            modCount++;
+            return true;
+        }
+
+        boolean contains(E element) {
+            if (Objects.isNull(element)) {
+                return false;
+            }
+            Object[] elementData = this.elementData;
+            for (int i = 0; i < size; i++) {
+                if (element.equals(elementData[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void grow(int minCapacity) {
+            if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+                throw new OutOfMemoryError();
+            }
+            int newCapacity = growthStrategy.newCapacity(elementData.length, minCapacity);
+            if (newCapacity < minCapacity || newCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+                newCapacity = minCapacity;
+            }
+            elementData = Arrays.copyOf(elementData, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.edu.benchmark;
+
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Цепочка преобразований «подсписок → фильтр → преобразование → материализация»:
+ * с промежуточными списками, заполняемыми через {@code add}, и через ленивые представления
+ * с одной итоговой копией. Разницу в аллокациях показывает запуск с {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private DefaultCustomArrayList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new DefaultCustomArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public CustomArrayList<Long> copies() {
+        DefaultCustomArrayList<Integer> sub = new DefaultCustomArrayList<>();
+        for (int i = size / 4; i < size - size / 4; i++) {
+            sub.add(list.get(i));
+        }
+        DefaultCustomArrayList<Integer> filtered = new DefaultCustomArrayList<>();
+        for (Integer value : sub) {
+            if (value % 3 != 0) {
+                filtered.add(value);
+            }
+        }
+        DefaultCustomArrayList<Long> mapped = new DefaultCustomArrayList<>();
+        for (Integer value : filtered) {
+            mapped.add(value * 2L);
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public CustomArrayList<Long> views() {
+        return list.subList(size / 4, size - size / 4)
+                .filterView(value -> value % 3 != 0)
+                .mapView(value -> value * 2L)
+                .materialize();
+    }
+}
@@ -0,0 +1,150 @@
+package com.edu;
+
+/**
+ * {@code ArrayPool} — пул массивов {@code Object[]}, разбитых по классам размеров,
+ * для повторного использования внутренних массивов {@link DefaultCustomArrayList}.
+ * <p>
+ * Длины пулируемых массивов — степени двойки от {@value #MIN_POOLED_LENGTH} до
+ * {@code maxPooledLength}; {@link #acquire(int)} округляет запрошенную ёмкость вверх до такой
+ * степени. У каждого потока свой набор стеков (по одному на класс размера) глубиной
+ * {@code arraysPerClass}, поэтому пул не требует синхронизации и не создаёт конкуренции
+ * между потоками. Массив, возвращённый в одном потоке, может быть выдан только в нём же.
+ * <p>
+ * Пул рассчитан на короткоживущие списки, которые многократно заполняются до похожих размеров:
+ * при росте списка старый массив возвращается в пул, а новый берётся из пула, поэтому
+ * в установившемся режиме рост не выделяет памяти.
+ */
+public final class ArrayPool {
+    /**
+     * Минимальная длина пулируемого массива.
+     */
+    public static final int MIN_POOLED_LENGTH = 16;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH);
+
+    /**
+     * Максимальная длина пулируемого массива.
+     */
+    private final int maxPooledLength;
+
+    /**
+     * Максимальное количество массивов одного класса размера в пуле потока.
+     */
+    private final int arraysPerClass;
+
+    /**
+     * Стеки массивов текущего потока: {@code [класс размера][позиция]}.
+     */
+    private final ThreadLocal<Object[][][]> stacks;
+
+    /**
+     * Количество массивов в каждом стеке текущего потока.
+     */
+    private final ThreadLocal<int[]> counts;
+
+    /**
+     * Создает пул с массивами длиной до 2<sup>20</sup> и не более чем четырьмя массивами
+     * каждого размера на поток.
+     */
+    public ArrayPool() {
+        this(1 << 20, 4);
+    }
+
+    /**
+     * Создает пул с указанными ограничениями.
+     *
+     * @param maxPooledLength максимальная длина пулируемого массива; округляется вверх до степени двойки.
+     * @param arraysPerClass  максимальное количество массивов одного размера в пуле потока.
+     * @throws IllegalArgumentException если {@code maxPooledLength} меньше {@value #MIN_POOLED_LENGTH}
+     *                                  или больше 2<sup>30</sup>, либо {@code arraysPerClass} не положителен.
+     */
+    public ArrayPool(int maxPooledLength, int arraysPerClass) {
+        if (maxPooledLength < MIN_POOLED_LENGTH || maxPooledLength > (1 << 30)) {
+            throw new IllegalArgumentException("Недопустимая максимальная длина массива: " + maxPooledLength);
+        }
+        if (arraysPerClass <= 0) {
+            throw new IllegalArgumentException("Недопустимое количество массивов: " + arraysPerClass);
+        }
+        int rounded = Integer.highestOneBit(maxPooledLength);
+        this.maxPooledLength = rounded < maxPooledLength ? rounded << 1 : rounded;
+        this.arraysPerClass = arraysPerClass;
+        int classCount = sizeClass(this.maxPooledLength) + 1;
+        this.stacks = ThreadLocal.withInitial(() -> new Object[classCount][arraysPerClass][]);
+        this.counts = ThreadLocal.withInitial(() -> new int[classCount]);
+    }
+
+    /**
+     * Возвращает номер класса размера для длины, являющейся степенью двойки.
+     */
+    private static int sizeClass(int length) {
+        return Integer.numberOfTrailingZeros(length) - MIN_SHIFT;
+    }
+
+    /**
+     * Возвращает массив длиной не меньше {@code minCapacity}. Для ёмкостей в пределах пула
+     * длина округляется вверх до степени двойки и массив по возможности берётся из пула;
+     * иначе выделяется новый массив длиной ровно {@code minCapacity}.
+     * Все элементы возвращаемого массива равны {@code null}.
+     *
+     * @param minCapacity требуемая минимальная длина.
+     * @return массив длиной не меньше {@code minCapacity}.
+     * @throws IllegalArgumentException если {@code minCapacity} отрицательна.
+     */
+    public Object[] acquire(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Недопустимая ёмкость: " + minCapacity);
+        }
+        if (minCapacity > maxPooledLength) {
+            return new Object[minCapacity];
+        }
+        int length = Math.max(MIN_POOLED_LENGTH, Integer.highestOneBit(Math.max(minCapacity - 1, 1)) << 1);
+        int sizeClass = sizeClass(length);
+        int[] threadCounts = counts.get();
+        int count = threadCounts[sizeClass];
+        if (count == 0) {
+            return new Object[length];
+        }
+        Object[][] stack = stacks.get()[sizeClass];
+        Object[] array = stack[--count];
+        stack[count] = null;
+        threadCounts[sizeClass] = count;
+        return array;
+    }
+
+    /**
+     * Возвращает массив в пул текущего потока. Массивы, длина которых не является
+     * пулируемой степенью двойки, а также массивы сверх {@code arraysPerClass} отбрасываются.
+     * Вызывающая сторона должна обнулить все элементы массива и больше не использовать его.
+     *
+     * @param array освобождаемый массив, все элементы которого равны {@code null}.
+     * @return {@code true}, если массив помещён в пул.
+     */
+    public boolean release(Object[] array) {
+        int length = array.length;
+        if (length < MIN_POOLED_LENGTH || length > maxPooledLength || Integer.bitCount(length) != 1) {
+            return false;
+        }
+        int sizeClass = sizeClass(length);
+        int[] threadCounts = counts.get();
+        int count = threadCounts[sizeClass];
+        if (count == arraysPerClass) {
+            return false;
+        }
+        stacks.get()[sizeClass][count] = array;
+        threadCounts[sizeClass] = count + 1;
+        return true;
+    }
+
+    /**
+     * Возвращает количество массивов указанной длины в пуле текущего потока.
+     *
+     * @param length длина массива.
+     * @return количество массивов этой длины, готовых к выдаче.
+     */
+    public int pooledCount(int length) {
+        if (length < MIN_POOLED_LENGTH || length > maxPooledLength || Integer.bitCount(length) != 1) {
+            return 0;
+        }
+        return counts.get()[sizeClass(length)];
+    }
+}
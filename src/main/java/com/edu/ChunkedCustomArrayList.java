@@ -0,0 +1,538 @@
+package com.edu;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@code ChunkedCustomArrayList} — реализация {@link CustomArrayList} в виде «многоуровневого
+ * вектора» (tiered vector) из блоков фиксированного размера.
+ * <p>
+ * Элементы хранятся в блоках по {@code C} элементов (степень двойки); каждый блок — кольцевой
+ * буфер со своим началом. Все блоки, кроме последнего, заполнены полностью, поэтому элемент
+ * с индексом {@code i} находится в блоке {@code i >>> shift} и {@link #get(int)} выполняется за O(1).
+ * <p>
+ * Рост списка выделяет новый блок и никогда не копирует уже записанные элементы — копируется
+ * только массив ссылок на блоки длиной {@code n / C}. Вставка и удаление по индексу сдвигают
+ * элементы внутри одного блока (O(C)), а затем переносят по одному граничному элементу между
+ * соседними блоками, сдвигая их начало (O(n / C)). При {@code C ≈ √n} это O(√n) вместо O(n)
+ * у плоского массива, а задержка отдельной операции не содержит копирований всего массива.
+ * <p>
+ * {@link #snapshot()} создаёт неизменяемый снимок за O(1): снимок разделяет со списком блоки
+ * и массив ссылок на них. Первое изменение списка после снимка копирует массив ссылок (O(n / C)),
+ * а каждый блок копируется только при первой записи в него (O(C)), поэтому стоимость первой
+ * записи ограничена O(C + n / C) для операций в конце списка и числом затронутых блоков
+ * для вставок и удалений в середине.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class ChunkedCustomArrayList<E> implements CustomArrayList<E> {
+    /**
+     * Размер блока по умолчанию.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private final int chunkSize;
+
+    /**
+     * Блоки с элементами; используются первые {@link #chunkCount} элементов массива.
+     */
+    private Object[][] chunks = new Object[4][];
+
+    /**
+     * Позиция логически первого элемента в каждом блоке.
+     */
+    private int[] heads = new int[4];
+
+    /**
+     * Версия, в которой создан или скопирован каждый блок. Блок с версией меньше {@link #version}
+     * может разделяться со снимком и перед записью копируется.
+     */
+    private int[] chunkVersions = new int[4];
+
+    /**
+     * Текущая версия списка; увеличивается при каждом снимке.
+     */
+    private int version;
+
+    /**
+     * Признак того, что массивы {@link #chunks}, {@link #heads} и {@link #chunkVersions}
+     * разделяются со снимком и перед изменением копируются.
+     */
+    private boolean spineShared;
+
+    /**
+     * Количество выделенных блоков.
+     */
+    private int chunkCount;
+
+    /**
+     * Количество элементов в списке.
+     */
+    private int size;
+
+    /**
+     * Счётчик структурных изменений списка.
+     */
+    private int modCount;
+
+    /**
+     * Создает пустой список с блоками по {@value #DEFAULT_CHUNK_SIZE} элементов.
+     */
+    public ChunkedCustomArrayList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Создает пустой список с указанным размером блока, округлённым вверх до степени двойки.
+     * Для вставок и удалений в середине оптимален размер порядка {@code √n}.
+     *
+     * @param chunkSize количество элементов в блоке.
+     * @throws IllegalArgumentException если {@code chunkSize} не положителен или больше 2<sup>30</sup>.
+     */
+    public ChunkedCustomArrayList(int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > (1 << 30)) {
+            throw new IllegalArgumentException("Недопустимый размер блока: " + chunkSize);
+        }
+        int rounded = Integer.highestOneBit(chunkSize);
+        if (rounded < chunkSize) {
+            rounded <<= 1;
+        }
+        this.chunkSize = rounded;
+        this.chunkShift = Integer.numberOfTrailingZeros(rounded);
+        this.chunkMask = rounded - 1;
+    }
+
+    /**
+     * Создает снимок, разделяющий блоки с исходным списком.
+     */
+    private ChunkedCustomArrayList(ChunkedCustomArrayList<E> source) {
+        this.chunkSize = source.chunkSize;
+        this.chunkShift = source.chunkShift;
+        this.chunkMask = source.chunkMask;
+        this.chunks = source.chunks;
+        this.heads = source.heads;
+        this.chunkVersions = source.chunkVersions;
+        this.chunkCount = source.chunkCount;
+        this.size = source.size;
+    }
+
+    /**
+     * Возвращает неизменяемый снимок списка за O(1), не копируя блоки.
+     *
+     * @return неизменяемый снимок списка.
+     */
+    @Override
+    public CustomArrayList<E> snapshot() {
+        spineShared = true;
+        version++;
+        return new ImmutableCustomArrayList<>(new ChunkedCustomArrayList<>(this));
+    }
+
+    /**
+     * Копирует массив ссылок на блоки, если он разделяется со снимком.
+     * Вызывается в начале каждой изменяющей операции.
+     */
+    private void prepareWrite() {
+        if (spineShared) {
+            chunks = chunks.clone();
+            heads = heads.clone();
+            chunkVersions = chunkVersions.clone();
+            spineShared = false;
+        }
+    }
+
+    /**
+     * Возвращает блок {@code c}, пригодный для записи, копируя его при первой записи после снимка.
+     */
+    private Object[] writableChunk(int c) {
+        if (chunkVersions[c] != version) {
+            chunks[c] = chunks[c].clone();
+            chunkVersions[c] = version;
+        }
+        return chunks[c];
+    }
+
+    /**
+     * Возвращает количество элементов в блоке {@code c} при текущем размере списка.
+     */
+    private int countOf(int c) {
+        long remaining = size - ((long) c << chunkShift);
+        return remaining <= 0 ? 0 : (int) Math.min(chunkSize, remaining);
+    }
+
+    /**
+     * Выделяет новый блок, если все выделенные блоки заполнены.
+     */
+    private void ensureRoomForOne() {
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер");
+        }
+        if (size == ((long) chunkCount << chunkShift)) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+                heads = Arrays.copyOf(heads, chunkCount * 2);
+                chunkVersions = Arrays.copyOf(chunkVersions, chunkCount * 2);
+            }
+            chunks[chunkCount] = new Object[chunkSize];
+            heads[chunkCount] = 0;
+            chunkVersions[chunkCount] = version;
+            chunkCount++;
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Никогда не копирует существующие элементы.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        prepareWrite();
+        ensureRoomForOne();
+        int c = size >>> chunkShift;
+        writableChunk(c)[(heads[c] + (size & chunkMask)) & chunkMask] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию за O(C + n / C).
+     *
+     * @param index   позиция вставки.
+     * @param element вставляемый элемент.
+     * @throws NullPointerException      если элемент равен {@code null}.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index > size()}).
+     */
+    public void add(int index, E element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException("Вставляемый элемент - null");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+        prepareWrite();
+        ensureRoomForOne();
+        int c = index >>> chunkShift;
+        Object carry = insertIntoChunk(c, index & chunkMask, element);
+        while (carry != null) {
+            carry = pushFront(++c, carry);
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Вставляет элемент в позицию {@code p} блока {@code c}, сдвигая последующие элементы блока.
+     *
+     * @return элемент, вытесненный из заполненного блока, или {@code null}.
+     */
+    private Object insertIntoChunk(int c, int p, Object element) {
+        Object[] chunk = writableChunk(c);
+        int head = heads[c];
+        int count = countOf(c);
+        Object carry = null;
+        int last = count;
+        if (count == chunkSize) {
+            last = chunkSize - 1;
+            carry = chunk[(head + last) & chunkMask];
+        }
+        for (int j = last; j > p; j--) {
+            chunk[(head + j) & chunkMask] = chunk[(head + j - 1) & chunkMask];
+        }
+        chunk[(head + p) & chunkMask] = element;
+        return carry;
+    }
+
+    /**
+     * Добавляет элемент в начало блока {@code c} сдвигом начала кольца.
+     *
+     * @return последний элемент, вытесненный из заполненного блока, или {@code null}.
+     */
+    private Object pushFront(int c, Object element) {
+        Object[] chunk = writableChunk(c);
+        int head = (heads[c] - 1) & chunkMask;
+        Object carry = countOf(c) == chunkSize ? chunk[head] : null;
+        chunk[head] = element;
+        heads[c] = head;
+        return carry;
+    }
+
+    /**
+     * Удаляет элемент по индексу за O(C + n / C).
+     *
+     * @param index индекс удаляемого элемента.
+     * @return удалённый элемент.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @SuppressWarnings("unchecked")
+    public E removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        prepareWrite();
+        int c = index >>> chunkShift;
+        int lastChunk = (size - 1) >>> chunkShift;
+        Object[] chunk = writableChunk(c);
+        int head = heads[c];
+        int count = countOf(c);
+        E removed = (E) chunk[(head + (index & chunkMask)) & chunkMask];
+        for (int j = index & chunkMask; j < count - 1; j++) {
+            chunk[(head + j) & chunkMask] = chunk[(head + j + 1) & chunkMask];
+        }
+        if (c == lastChunk) {
+            chunk[(head + count - 1) & chunkMask] = null; // сброс ссылки для GC
+        }
+        for (int d = c + 1; d <= lastChunk; d++) {
+            Object[] next = writableChunk(d);
+            int nextHead = heads[d];
+            Object first = next[nextHead];
+            next[nextHead] = null;
+            heads[d] = (nextHead + 1) & chunkMask;
+            chunks[d - 1][(heads[d - 1] + chunkMask) & chunkMask] = first;
+        }
+        size--;
+        if (size == ((long) (chunkCount - 1) << chunkShift)) {
+            chunks[--chunkCount] = null;
+        }
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    /**
+     * Вставляет все элементы коллекции, начиная с указанной позиции. Небольшие пакеты
+     * вставляются поэлементно за O(m · (C + n / C)), большие — перестроением хвоста за O(n - index + m).
+     *
+     * @param index позиция, в которую вставляется первый элемент коллекции
+     * @param c     коллекция элементов, которые необходимо вставить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если коллекция {@code c} или один из её элементов равен {@code null}
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index > size()})
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса ChunkedCustomArrayList коллекция - null");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (array.length == 0) {
+            return false;
+        }
+        if (index == size) {
+            for (Object element : array) {
+                add((E) element);
+            }
+        } else if (array.length < chunkSize) {
+            for (int i = 0; i < array.length; i++) {
+                add(index + i, (E) array[i]);
+            }
+        } else {
+            Object[] tail = new Object[size - index];
+            for (int i = index; i < size; i++) {
+                tail[i - index] = get(i);
+            }
+            truncate(index);
+            for (Object element : array) {
+                add((E) element);
+            }
+            for (Object element : tail) {
+                add((E) element);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Укорачивает список до {@code newSize} элементов, освобождая лишние блоки.
+     */
+    private void truncate(int newSize) {
+        prepareWrite();
+        for (int i = newSize; i < size; i++) {
+            int c = i >>> chunkShift;
+            writableChunk(c)[(heads[c] + (i & chunkMask)) & chunkMask] = null;
+        }
+        size = newSize;
+        int usedChunks = (int) ((newSize + (long) chunkMask) >>> chunkShift);
+        while (chunkCount > usedChunks) {
+            chunks[--chunkCount] = null;
+        }
+        modCount++;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Возвращает элемент по индексу за O(1).
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int c = index >>> chunkShift;
+        return (E) chunks[c][(heads[c] + (index & chunkMask)) & chunkMask];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы из списка, освобождая все блоки.
+     */
+    @Override
+    public void clear() {
+        prepareWrite();
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента, просматривая блоки по порядку.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int indexOf(E element) {
+        if (Objects.isNull(element)) {
+            return -1;
+        }
+        for (int c = 0; c < chunkCount; c++) {
+            Object[] chunk = chunks[c];
+            int head = heads[c];
+            int count = countOf(c);
+            for (int j = 0; j < count; j++) {
+                if (element.equals(chunk[(head + j) & chunkMask])) {
+                    return (c << chunkShift) + j;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает итератор по элементам списка, обходящий блоки по порядку.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int cursor;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                int i = cursor;
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                cursor = i + 1;
+                int c = i >>> chunkShift;
+                return (E) chunks[c][(heads[c] + (i & chunkMask)) & chunkMask];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int c = 0; c < chunkCount && modCount == expectedModCount; c++) {
+            Object[] chunk = chunks[c];
+            int head = heads[c];
+            int count = countOf(c);
+            for (int j = 0; j < count; j++) {
+                action.accept((E) chunk[(head + j) & chunkMask]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+}
@@ -0,0 +1,321 @@
+package com.edu;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@code ConcurrentAppendBuffer} — неблокирующий буфер добавления для многих потоков-производителей,
+ * результаты которых собираются в один {@link CustomArrayList}.
+ * <p>
+ * Буфер разбит на полосы (stripes); поток выбирает полосу по своему идентификатору. Каждая полоса —
+ * цепочка сегментов фиксированной ёмкости. {@link #add(Object)} резервирует ячейку сегмента одним
+ * {@code getAndIncrement} и записывает в неё элемент; заполненный сегмент продлевается новым
+ * через CAS ссылки {@code next}. Блокировок нет: потоки разных полос не конкурируют вовсе,
+ * а потоки одной полосы — только за счётчик ячеек.
+ * <p>
+ * Первый сегмент полосы создаётся при первом добавлении в неё через CAS головы полосы, поэтому
+ * пустой набор полос — лишь два массива ссылок, а память под ячейки выделяется только
+ * для полос, в которые действительно добавляют.
+ * <p>
+ * {@link #drainTo(CustomArrayList)} атомарно подменяет набор полос пустым, запечатывает старые
+ * сегменты и пустые полосы (добавления в них после этого не проходят и повторяются в новых полосах) и переносит
+ * элементы в целевой список одним пакетным копированием заранее рассчитанного размера.
+ * {@link #freeze()} делает то же окончательно: дальнейшие добавления отклоняются.
+ * <p>
+ * Порядок элементов одного потока сохраняется; элементы разных потоков упорядочены по полосам.
+ * Перенос ждёт потоки, которые уже зарезервировали ячейку, но ещё не записали в неё элемент.
+ *
+ * @param <E> тип элементов буфера.
+ */
+public final class ConcurrentAppendBuffer<E> {
+    /**
+     * Ёмкость сегмента по умолчанию.
+     */
+    private static final int DEFAULT_SEGMENT_CAPACITY = 1024;
+
+    /**
+     * Добавка к счётчику резервирования, запечатывающая сегмент.
+     */
+    private static final int SEALED = 1 << 30;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle RESERVED;
+    private static final VarHandle NEXT;
+    private static final VarHandle CURRENT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            RESERVED = lookup.findVarHandle(Segment.class, "reserved", int.class);
+            NEXT = lookup.findVarHandle(Segment.class, "next", Segment.class);
+            CURRENT = lookup.findVarHandle(ConcurrentAppendBuffer.class, "current", Generation.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Метка конца запечатанной цепочки сегментов.
+     */
+    private static final Segment END = new Segment(0);
+
+    /**
+     * Количество полос — степень двойки.
+     */
+    private final int stripes;
+
+    /**
+     * Ёмкость сегмента.
+     */
+    private final int segmentCapacity;
+
+    /**
+     * Текущий набор полос, принимающий добавления.
+     */
+    private volatile Generation current;
+
+    /**
+     * Признак окончательной заморозки буфера.
+     */
+    private volatile boolean frozen;
+
+    /**
+     * Создает буфер с числом полос, равным удвоенному числу процессоров (округлённому
+     * до степени двойки), и сегментами по {@value #DEFAULT_SEGMENT_CAPACITY} элементов.
+     */
+    public ConcurrentAppendBuffer() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Создает буфер с указанным числом полос и ёмкостью сегмента.
+     *
+     * @param stripes         количество полос; округляется вверх до степени двойки.
+     * @param segmentCapacity количество элементов в одном сегменте.
+     * @throws IllegalArgumentException если {@code stripes} не положительно или больше 2<sup>16</sup>,
+     *                                  либо {@code segmentCapacity} не положительна или больше 2<sup>24</sup>.
+     */
+    public ConcurrentAppendBuffer(int stripes, int segmentCapacity) {
+        if (stripes <= 0 || stripes > (1 << 16)) {
+            throw new IllegalArgumentException("Недопустимое количество полос: " + stripes);
+        }
+        if (segmentCapacity <= 0 || segmentCapacity > (1 << 24)) {
+            throw new IllegalArgumentException("Недопустимая ёмкость сегмента: " + segmentCapacity);
+        }
+        int rounded = Integer.highestOneBit(stripes);
+        this.stripes = rounded < stripes ? rounded << 1 : rounded;
+        this.segmentCapacity = segmentCapacity;
+        this.current = new Generation(this.stripes);
+    }
+
+    /**
+     * Добавляет элемент в полосу текущего потока без блокировок.
+     *
+     * @param element добавляемый элемент.
+     * @return {@code true}, если элемент добавлен; {@code false}, если элемент равен {@code null}.
+     * @throws IllegalStateException если буфер заморожен методом {@link #freeze()}.
+     */
+    public boolean add(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        int stripe = stripeOf(Thread.currentThread());
+        while (true) {
+            Generation generation = current;
+            if (generation == null) {
+                throw new IllegalStateException("Буфер заморожен");
+            }
+            Segment segment = generation.tails.get(stripe);
+            if (segment == null) {
+                segment = generation.heads.get(stripe);
+                if (segment == null) {
+                    Segment first = new Segment(segmentCapacity);
+                    first.slots[0] = element;
+                    first.reserved = 1;
+                    if (generation.heads.compareAndSet(stripe, null, first)) {
+                        generation.tails.compareAndSet(stripe, null, first);
+                        return true;
+                    }
+                    segment = generation.heads.get(stripe);
+                }
+            }
+            while (segment != END) {
+                int slot = (int) RESERVED.getAndAdd(segment, 1);
+                if (slot < segmentCapacity) {
+                    SLOT.setRelease(segment.slots, slot, element);
+                    return true;
+                }
+                if (slot >= SEALED) {
+                    break;
+                }
+                Segment next = segment.next;
+                if (next == null) {
+                    Segment extension = new Segment(segmentCapacity);
+                    extension.slots[0] = element;
+                    extension.reserved = 1;
+                    if (NEXT.compareAndSet(segment, null, extension)) {
+                        generation.tails.compareAndSet(stripe, segment, extension);
+                        return true;
+                    }
+                    next = segment.next;
+                }
+                if (next == END) {
+                    break;
+                }
+                generation.tails.compareAndSet(stripe, segment, next);
+                segment = next;
+            }
+            if (frozen) {
+                throw new IllegalStateException("Буфер заморожен");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Переносит все добавленные на данный момент элементы в конец целевого списка одним вызовом
+     * {@link CustomArrayList#addAll(Object[], int, int)}. Буфер остаётся открытым: добавления,
+     * выполняемые одновременно с переносом, попадают либо в этот перенос, либо в следующий.
+     *
+     * @param target список, в который переносятся элементы.
+     * @return количество перенесённых элементов.
+     * @throws NullPointerException если {@code target} равен {@code null}.
+     */
+    public int drainTo(CustomArrayList<E> target) {
+        Objects.requireNonNull(target, "target");
+        Generation drained = swap(new Generation(stripes));
+        if (drained == null) {
+            return 0;
+        }
+        Object[] elements = collect(drained);
+        if (elements.length > 0) {
+            target.addAll(elementArray(elements), 0, elements.length);
+        }
+        return elements.length;
+    }
+
+    /**
+     * Окончательно закрывает буфер и возвращает все добавленные элементы в виде нового списка,
+     * который владеет собранным массивом без дополнительного копирования. Последующие вызовы
+     * {@link #add(Object)} выбрасывают {@link IllegalStateException}, а повторный вызов
+     * {@code freeze()} возвращает пустой список.
+     *
+     * @return список всех элементов буфера.
+     */
+    public CustomArrayList<E> freeze() {
+        frozen = true;
+        Generation drained = swap(null);
+        Object[] elements = drained == null ? new Object[0] : collect(drained);
+        return DefaultCustomArrayList.adopt(elements, elements.length);
+    }
+
+    /**
+     * Возвращает {@code true}, если буфер заморожен.
+     *
+     * @return признак заморозки.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] elementArray(Object[] elements) {
+        return (E[]) elements;
+    }
+
+    private int stripeOf(Thread thread) {
+        long id = thread.getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (stripes - 1);
+    }
+
+    /**
+     * Атомарно заменяет текущий набор полос. Возвращает прежний набор или {@code null},
+     * если буфер уже заморожен.
+     */
+    private Generation swap(Generation replacement) {
+        while (true) {
+            Generation generation = current;
+            if (generation == null) {
+                return null;
+            }
+            if (CURRENT.compareAndSet(this, generation, replacement)) {
+                return generation;
+            }
+        }
+    }
+
+    /**
+     * Запечатывает сегменты снятого набора полос и собирает их элементы в массив точного размера.
+     */
+    private Object[] collect(Generation generation) {
+        int total = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (generation.heads.compareAndSet(stripe, null, END)) {
+                continue;
+            }
+            Segment segment = generation.heads.get(stripe);
+            while (segment != END) {
+                int reserved = (int) RESERVED.getAndAdd(segment, SEALED);
+                segment.count = Math.min(reserved, segmentCapacity);
+                total += segment.count;
+                if (NEXT.compareAndSet(segment, null, END)) {
+                    break;
+                }
+                segment = segment.next;
+            }
+        }
+        if (total > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Количество элементов буфера превышает максимальный размер массива");
+        }
+        Object[] elements = new Object[total];
+        int position = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            for (Segment segment = generation.heads.get(stripe); segment != END; segment = segment.next) {
+                Object[] slots = segment.slots;
+                for (int i = 0; i < segment.count; i++) {
+                    Object element;
+                    while ((element = SLOT.getAcquire(slots, i)) == null) {
+                        Thread.onSpinWait();
+                    }
+                    elements[position++] = element;
+                }
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Набор полос: первые и текущие последние сегменты каждой полосы. Голова равна {@code null},
+     * пока в полосу ничего не добавлено, и {@link #END}, если полоса запечатана пустой.
+     */
+    private static final class Generation {
+        final AtomicReferenceArray<Segment> heads;
+        final AtomicReferenceArray<Segment> tails;
+
+        Generation(int stripes) {
+            heads = new AtomicReferenceArray<>(stripes);
+            tails = new AtomicReferenceArray<>(stripes);
+        }
+    }
+
+    /**
+     * Сегмент полосы: ячейки, счётчик резервирования и ссылка на следующий сегмент.
+     */
+    private static final class Segment {
+        final Object[] slots;
+        volatile int reserved;
+        volatile Segment next;
+
+        /**
+         * Количество занятых ячеек, фиксируемое при запечатывании.
+         */
+        int count;
+
+        Segment(int capacity) {
+            slots = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package com.edu;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@code ConcurrentCustomArrayList} — потокобезопасная реализация {@link CustomArrayList}
+ * с неблокирующим чтением.
+ * <p>
+ * Состояние списка (массив и размер) публикуется через volatile-ссылку на неизменяемый
+ * {@link Snapshot}. Читатели ({@link #get(int)}, {@link #contains(Object)}, итерация)
+ * выполняют одно volatile-чтение и никогда не блокируются. Писатели сериализуются
+ * {@link ReentrantLock}.
+ * <p>
+ * Опубликованный префикс массива {@code [0, size)} никогда не изменяется на месте:
+ * добавление записывает элемент за границей опубликованного размера и затем публикует
+ * новый снимок, а удаление и вставка в середину копируют массив. Поэтому добавление
+ * в конец остаётся амортизированно O(1), а итераторы видят согласованный снимок списка
+ * на момент своего создания и не выбрасывают {@link java.util.ConcurrentModificationException}.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class ConcurrentCustomArrayList<E> implements CustomArrayList<E> {
+    /**
+     * Начальная емкость массива по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Текущий опубликованный снимок списка.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Блокировка, сериализующая писателей.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Стратегия расширения внутреннего массива.
+     */
+    private final GrowthStrategy growthStrategy;
+
+    /**
+     * Создает пустой список с начальной емкостью по умолчанию ({@value #DEFAULT_CAPACITY}).
+     */
+    public ConcurrentCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и удвоением массива при росте.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     */
+    public ConcurrentCustomArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.doubling());
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и стратегией роста.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @param growthStrategy  стратегия расширения внутреннего массива.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     * @throws NullPointerException     если {@code growthStrategy} равна {@code null}.
+     */
+    public ConcurrentCustomArrayList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity < 0 || initialCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Недопустимая начальная емкость: " + initialCapacity);
+        }
+        this.growthStrategy = Objects.requireNonNull(growthStrategy, "growthStrategy");
+        this.snapshot = new Snapshot(new Object[initialCapacity], 0);
+    }
+
+    /**
+     * Неизменяемая пара «массив — размер». Элементы с индексами {@code [0, size)}
+     * массива никогда не изменяются после публикации снимка.
+     */
+    private static final class Snapshot {
+        final Object[] elementData;
+        final int size;
+
+        Snapshot(Object[] elementData, int size) {
+            this.elementData = elementData;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Object[] elementData = ensureCapacity(current, current.size + 1);
+            elementData[current.size] = element;
+            snapshot = new Snapshot(elementData, current.size + 1);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Добавляет все элементы из указанной коллекции в конец этого списка.
+     * Читатели видят либо ни одного, либо все добавленные элементы.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса ConcurrentCustomArrayList коллекция - null");
+        }
+        Object[] array = c.toArray();
+        return appendRange(array, 0, array.length);
+    }
+
+    /**
+     * Добавляет в конец этого списка элементы массива из диапазона {@code [from, to)}.
+     *
+     * @param array массив-источник элементов
+     * @param from  индекс первого добавляемого элемента (включительно)
+     * @param to    индекс, следующий за последним добавляемым элементом (не включительно)
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если массив или один из элементов диапазона равен {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    @Override
+    public boolean addAll(E[] array, int from, int to) {
+        if (Objects.isNull(array)) {
+            throw new NullPointerException("Переданный в метод addAll() класса ConcurrentCustomArrayList массив - null");
+        }
+        Objects.checkFromToIndex(from, to, array.length);
+        return appendRange(array, from, to - from);
+    }
+
+    /**
+     * Добавляет все элементы другого списка в конец этого списка одним снимком.
+     *
+     * @param other список, элементы которого необходимо добавить
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если переданный список или один из его элементов равен {@code null}
+     */
+    @Override
+    public boolean addAllFrom(CustomArrayList<? extends E> other) {
+        if (Objects.isNull(other)) {
+            throw new NullPointerException("Переданный в метод addAllFrom() класса ConcurrentCustomArrayList список - null");
+        }
+        if (other instanceof ConcurrentCustomArrayList) {
+            Snapshot source = ((ConcurrentCustomArrayList<?>) other).snapshot;
+            return appendRange(source.elementData, 0, source.size);
+        }
+        Object[] array = new Object[other.size()];
+        int i = 0;
+        for (E element : other) {
+            if (i == array.length) {
+                array = Arrays.copyOf(array, i + 1);
+            }
+            array[i++] = element;
+        }
+        return appendRange(array, 0, i);
+    }
+
+    /**
+     * Вставляет все элементы из указанной коллекции, начиная с указанной позиции.
+     * Вставка в середину копирует массив, чтобы не изменять опубликованный снимок.
+     *
+     * @param index позиция, в которую вставляется первый элемент коллекции
+     * @param c     коллекция элементов, которые необходимо вставить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если коллекция {@code c} или один из её элементов равен {@code null}
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index > size()})
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса ConcurrentCustomArrayList коллекция - null");
+        }
+        Object[] array = c.toArray();
+        checkNoNulls(array, 0, array.length);
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (index < 0 || index > current.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.size);
+            }
+            if (index == current.size) {
+                return appendRange(array, 0, array.length);
+            }
+            if (array.length == 0) {
+                return false;
+            }
+            int newSize = current.size + array.length;
+            int oldCapacity = current.elementData.length;
+            Object[] elementData = new Object[newSize <= oldCapacity ? oldCapacity : newCapacity(oldCapacity, newSize)];
+            System.arraycopy(current.elementData, 0, elementData, 0, index);
+            System.arraycopy(array, 0, elementData, index, array.length);
+            System.arraycopy(current.elementData, index, elementData, index + array.length, current.size - index);
+            snapshot = new Snapshot(elementData, newSize);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Добавляет {@code numNew} элементов массива {@code source}, начиная с {@code from},
+     * в конец списка и публикует их одним снимком.
+     */
+    private boolean appendRange(Object[] source, int from, int numNew) {
+        checkNoNulls(source, from, numNew);
+        if (numNew == 0) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Object[] elementData = ensureCapacity(current, current.size + numNew);
+            System.arraycopy(source, from, elementData, current.size, numNew);
+            snapshot = new Snapshot(elementData, current.size + numNew);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void checkNoNulls(Object[] source, int from, int numNew) {
+        for (int i = from; i < from + numNew; i++) {
+            if (Objects.isNull(source[i])) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+    }
+
+    /**
+     * Возвращает массив, вмещающий не менее {@code minCapacity} элементов: текущий массив
+     * снимка, если места достаточно, или его расширенную копию. Вызывается под блокировкой.
+     *
+     * @param current     текущий снимок.
+     * @param minCapacity требуемая минимальная ёмкость.
+     * @return массив для записи новых элементов.
+     * @throws OutOfMemoryError если требуемая ёмкость превышает {@link GrowthStrategy#MAX_ARRAY_SIZE}.
+     */
+    private Object[] ensureCapacity(Snapshot current, int minCapacity) {
+        Object[] elementData = current.elementData;
+        if (minCapacity >= 0 && minCapacity <= elementData.length) {
+            return elementData;
+        }
+        return Arrays.copyOf(elementData, newCapacity(elementData.length, minCapacity));
+    }
+
+    /**
+     * Вычисляет новую ёмкость массива согласно стратегии роста.
+     *
+     * @param oldCapacity текущая ёмкость.
+     * @param minCapacity требуемая минимальная ёмкость.
+     * @return новая ёмкость, не меньше {@code minCapacity}.
+     * @throws OutOfMemoryError если требуемая ёмкость превышает {@link GrowthStrategy#MAX_ARRAY_SIZE}.
+     */
+    private int newCapacity(int oldCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер массива");
+        }
+        int newCapacity = growthStrategy.newCapacity(oldCapacity, minCapacity);
+        if (newCapacity < minCapacity || newCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            newCapacity = minCapacity;
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка.
+     * Элементы копируются в новый массив, поэтому читатели старого снимка не видят сдвига.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            int index = indexOf(current, element);
+            if (index < 0) {
+                return false;
+            }
+            Object[] elementData = new Object[current.elementData.length];
+            System.arraycopy(current.elementData, 0, elementData, 0, index);
+            System.arraycopy(current.elementData, index + 1, elementData, index, current.size - index - 1);
+            snapshot = new Snapshot(elementData, current.size - 1);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие предикату. Оставшиеся элементы за один проход
+     * копируются в новый массив, который публикуется одним снимком, поэтому читатели видят
+     * список либо целиком до, либо целиком после удаления. Предикат вызывается под блокировкой
+     * писателей и не должен изменять этот список.
+     *
+     * @param filter предикат, возвращающий {@code true} для удаляемых элементов.
+     * @return {@code true}, если был удалён хотя бы один элемент, иначе {@code false}.
+     * @throws NullPointerException если {@code filter} равен {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Object[] elementData = new Object[current.elementData.length];
+            int count = 0;
+            for (int i = 0; i < current.size; i++) {
+                Object element = current.elementData[i];
+                if (!filter.test((E) element)) {
+                    elementData[count++] = element;
+                }
+            }
+            if (count == current.size) {
+                return false;
+            }
+            snapshot = new Snapshot(elementData, count);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона {@code [from, to)}, публикуя новый снимок.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, следующий за последним удаляемым элементом (не включительно).
+     * @throws IndexOutOfBoundsException если {@code from < 0}, {@code to > size()} или {@code from > to}.
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Objects.checkFromToIndex(from, to, current.size);
+            if (from == to) {
+                return;
+            }
+            Object[] elementData = new Object[current.elementData.length];
+            System.arraycopy(current.elementData, 0, elementData, 0, from);
+            System.arraycopy(current.elementData, to, elementData, from, current.size - to);
+            snapshot = new Snapshot(elementData, current.size - (to - from));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу. Не блокируется.
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Snapshot current = snapshot;
+        if (index < 0 || index >= current.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.size);
+        }
+        return (E) current.elementData[index];
+    }
+
+    /**
+     * Возвращает количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Проверяет, является ли этот список пустым.
+     *
+     * @return {@code true}, если список не содержит элементов; {@code false} в противном случае.
+     */
+    @Override
+    public boolean isEmpty() {
+        return snapshot.size == 0;
+    }
+
+    /**
+     * Возвращает неизменяемый снимок списка за O(1). Опубликованный массив никогда не изменяется
+     * в пределах своего размера, поэтому снимок просто ссылается на текущую пару «массив, размер».
+     * Не блокируется.
+     *
+     * @return неизменяемый снимок списка.
+     */
+    @Override
+    public CustomArrayList<E> snapshot() {
+        Snapshot current = snapshot;
+        return new ImmutableCustomArrayList<>(DefaultCustomArrayList.adopt(current.elementData, current.size));
+    }
+
+    /**
+     * Удаляет все элементы из этого списка, публикуя новый пустой массив.
+     */
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            snapshot = new Snapshot(new Object[DEFAULT_CAPACITY], 0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Проверяет, содержит ли список указанный элемент. Не блокируется.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    @Override
+    public boolean contains(E element) {
+        return !Objects.isNull(element) && indexOf(snapshot, element) >= 0;
+    }
+
+    private static int indexOf(Snapshot current, Object element) {
+        Object[] elementData = current.elementData;
+        for (int i = 0; i < current.size; i++) {
+            if (element.equals(elementData[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает итератор по снимку списка на момент вызова. Итератор не блокируется
+     * и не отражает последующих изменений списка.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Snapshot current = snapshot;
+        return new Iterator<E>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < current.size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= current.size) {
+                    throw new NoSuchElementException();
+                }
+                return (E) current.elementData[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Выполняет действие для каждого элемента снимка списка на момент вызова.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws NullPointerException если {@code action} равен {@code null}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        Snapshot current = snapshot;
+        for (int i = 0; i < current.size; i++) {
+            action.accept((E) current.elementData[i]);
+        }
+    }
+
+    /**
+     * Возвращает сплитератор по снимку списка на момент вызова с характеристиками
+     * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED},
+     * {@link Spliterator#ORDERED} и {@link Spliterator#NONNULL}.
+     *
+     * @return сплитератор по элементам списка.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        Snapshot current = snapshot;
+        return Spliterators.spliterator(current.elementData, 0, current.size,
+                Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+}
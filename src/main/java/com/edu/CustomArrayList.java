@@ -1,6 +1,13 @@
 package com.edu;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Интерфейс, который определяет контракт для списка,
@@ -31,6 +38,93 @@ public interface CustomArrayList<E> extends Iterable<E> {
      */
     boolean addAll(Collection<? extends E> c);
 
+    /**
+     * Добавляет все элементы другого списка в конец этого списка.
+     *
+     * @param other список, элементы которого необходимо добавить
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если переданный список равен {@code null}
+     */
+    default boolean addAllFrom(CustomArrayList<? extends E> other) {
+        Objects.requireNonNull(other);
+        boolean isModified = false;
+        for (E element : other) {
+            isModified |= add(element);
+        }
+        return isModified;
+    }
+
+    /**
+     * Вставляет все элементы из указанной коллекции в этот список, начиная с указанной позиции.
+     * Элементы, находившиеся на этой позиции и правее, сдвигаются вправо.
+     * <p>
+     * Реализация по умолчанию снимает хвост {@code [index, size())} через {@link #removeRange(int, int)},
+     * добавляет элементы коллекции и возвращает хвост в конец, используя только добавление в конец.
+     * Это O({@code size()}) с большой константой: {@link #removeRange(int, int)} по умолчанию
+     * перестраивает весь список через {@link #removeIf(Predicate)}, поэтому такая вставка
+     * может перестроить список дважды. Если добавление выбрасывает исключение, вставленная часть
+     * снимается и хвост возвращается на место. Реализации с прямым доступом к массиву
+     * переопределяют метод одним сдвигом.
+     *
+     * @param index позиция, в которую вставляется первый элемент коллекции
+     * @param c     коллекция элементов, которые необходимо вставить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException          если коллекция {@code c} или один из её элементов равен {@code null}
+     * @throws IndexOutOfBoundsException     если индекс находится вне диапазона ({@code index < 0 || index > size()})
+     * @throws UnsupportedOperationException если реализация не поддерживает вставку по индексу
+     */
+    @SuppressWarnings("unchecked")
+    default boolean addAll(int index, Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() коллекция - null");
+        }
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] inserted = c.toArray();
+        for (Object element : inserted) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (inserted.length == 0) {
+            return false;
+        }
+        Object[] tail = new Object[size - index];
+        for (int i = 0; i < tail.length; i++) {
+            tail[i] = get(index + i);
+        }
+        removeRange(index, size);
+        boolean completed = false;
+        try {
+            addAll((E[]) inserted, 0, inserted.length);
+            addAll((E[]) tail, 0, tail.length);
+            completed = true;
+        } finally {
+            if (!completed) {
+                removeRange(index, size());
+                addAll((E[]) tail, 0, tail.length);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Добавляет в конец этого списка элементы массива из диапазона {@code [from, to)}.
+     *
+     * @param array массив-источник элементов
+     * @param from  индекс первого добавляемого элемента (включительно)
+     * @param to    индекс, следующий за последним добавляемым элементом (не включительно)
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если массив или один из элементов диапазона равен {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    default boolean addAll(E[] array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.length);
+        return addAll(Arrays.asList(array).subList(from, to));
+    }
+
     /**
      * Удаляет первое вхождение указанного элемента из этого списка.
      *
@@ -39,6 +133,80 @@ public interface CustomArrayList<E> extends Iterable<E> {
      */
     boolean remove(E element);
 
+    /**
+     * Удаляет все элементы, удовлетворяющие предикату.
+     * <p>
+     * Реализация по умолчанию за один проход собирает оставшиеся элементы и заново
+     * заполняет ими список; реализации на массиве уплотняют массив на месте.
+     *
+     * @param filter предикат, возвращающий {@code true} для удаляемых элементов.
+     * @return {@code true}, если был удалён хотя бы один элемент, иначе {@code false}.
+     * @throws NullPointerException если {@code filter} равен {@code null}.
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        Object[] survivors = new Object[size()];
+        int count = 0;
+        for (E element : this) {
+            if (!filter.test(element)) {
+                survivors[count++] = element;
+            }
+        }
+        if (count == size()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        List<E> retained = (List<E>) Arrays.asList(survivors).subList(0, count);
+        clear();
+        addAll(retained);
+        return true;
+    }
+
+    /**
+     * Удаляет из списка все элементы, содержащиеся в указанной коллекции.
+     * Стоимость одной проверки равна стоимости {@link Collection#contains(Object)},
+     * поэтому для больших коллекций лучше передавать {@link java.util.Set}.
+     *
+     * @param c коллекция удаляемых элементов.
+     * @return {@code true}, если был удалён хотя бы один элемент, иначе {@code false}.
+     * @throws NullPointerException если {@code c} равна {@code null}.
+     */
+    default boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    /**
+     * Оставляет в списке только элементы, содержащиеся в указанной коллекции.
+     *
+     * @param c коллекция сохраняемых элементов.
+     * @return {@code true}, если был удалён хотя бы один элемент, иначе {@code false}.
+     * @throws NullPointerException если {@code c} равна {@code null}.
+     */
+    default boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(element -> !c.contains(element));
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона {@code [from, to)}.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, следующий за последним удаляемым элементом (не включительно).
+     * @throws IndexOutOfBoundsException если {@code from < 0}, {@code to > size()} или {@code from > to}.
+     */
+    default void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        if (from == to) {
+            return;
+        }
+        int[] position = {0};
+        removeIf(element -> {
+            int i = position[0]++;
+            return i >= from && i < to;
+        });
+    }
+
     /**
      * Возвращает элемент по указанному индексу.
      *
@@ -81,4 +249,92 @@ public interface CustomArrayList<E> extends Iterable<E> {
      * @return итератор для элементов списка.
      */
     Iterator<E> iterator();
+
+    /**
+     * Возвращает неизменяемый снимок текущего содержимого списка. Последующие изменения
+     * списка не видны в снимке, изменяющие операции снимка выбрасывают
+     * {@link UnsupportedOperationException}.
+     * <p>
+     * Реализация по умолчанию копирует элементы за O(n). Реализации с копированием при записи
+     * создают снимок за O(1) и копируют данные при первом изменении списка после снимка.
+     *
+     * @return неизменяемый снимок списка.
+     */
+    default CustomArrayList<E> snapshot() {
+        return new ImmutableCustomArrayList<>(materialize());
+    }
+
+    /**
+     * Возвращает представление элементов с индексами из диапазона {@code [from, to)} без копирования.
+     * Представление доступно только для чтения и обращается к этому списку при каждом чтении;
+     * после структурного изменения списка его поведение не определено (реализации могут
+     * выбрасывать {@link java.util.ConcurrentModificationException}).
+     *
+     * @param from индекс первого элемента (включительно).
+     * @param to   индекс, следующий за последним элементом (не включительно).
+     * @return представление диапазона.
+     * @throws IndexOutOfBoundsException если {@code from < 0}, {@code to > size()} или {@code from > to}.
+     */
+    default CustomArrayList<E> subList(int from, int to) {
+        return new CustomArrayListViews.SubListView<>(this, from, to);
+    }
+
+    /**
+     * Возвращает представление, элементы которого вычисляются функцией {@code mapper}
+     * из элементов этого списка при каждом обращении. Функция не должна возвращать {@code null}.
+     * Представление доступно только для чтения.
+     *
+     * @param mapper функция преобразования элементов.
+     * @param <R>    тип элементов представления.
+     * @return ленивое представление преобразованных элементов.
+     * @throws NullPointerException если {@code mapper} равен {@code null}.
+     */
+    default <R> CustomArrayList<R> mapView(Function<? super E, ? extends R> mapper) {
+        return new CustomArrayListViews.MappedView<>(this, mapper);
+    }
+
+    /**
+     * Возвращает представление элементов этого списка, удовлетворяющих предикату.
+     * Предикат вычисляется при обходе; {@link #size()} и {@link #get(int)} представления
+     * просматривают весь список. Представление доступно только для чтения.
+     *
+     * @param filter предикат отбора элементов.
+     * @return ленивое представление отобранных элементов.
+     * @throws NullPointerException если {@code filter} равен {@code null}.
+     */
+    default CustomArrayList<E> filterView(Predicate<? super E> filter) {
+        return new CustomArrayListViews.FilteredView<>(this, filter);
+    }
+
+    /**
+     * Копирует элементы списка (или представления) в новый изменяемый
+     * {@link DefaultCustomArrayList}. Массив выделяется один раз по размеру {@link #size()}.
+     *
+     * @return новый список с элементами этого списка.
+     */
+    default CustomArrayList<E> materialize() {
+        Object[] elements = new Object[size()];
+        int[] count = new int[1];
+        forEach(element -> elements[count[0]++] = element);
+        return DefaultCustomArrayList.adopt(elements, count[0]);
+    }
+
+    /**
+     * Возвращает последовательный {@link Stream} по элементам списка.
+     *
+     * @return последовательный поток элементов списка.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный {@link Stream} по элементам списка.
+     * Эффективность распараллеливания зависит от {@link #spliterator()} реализации.
+     *
+     * @return параллельный поток элементов списка.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
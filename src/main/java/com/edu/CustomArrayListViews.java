@@ -0,0 +1,265 @@
+package com.edu;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Ленивые представления {@link CustomArrayList}, используемые методами по умолчанию
+ * {@link CustomArrayList#subList(int, int)}, {@link CustomArrayList#mapView(Function)}
+ * и {@link CustomArrayList#filterView(Predicate)}.
+ * <p>
+ * Представления не копируют элементы: каждое обращение читает исходный список.
+ * Все они доступны только для чтения.
+ */
+final class CustomArrayListViews {
+
+    private CustomArrayListViews() {
+    }
+
+    /**
+     * Представление диапазона {@code [from, to)} произвольного списка через {@link CustomArrayList#get(int)}.
+     */
+    static final class SubListView<E> extends ReadOnlyCustomArrayList<E> {
+        private final CustomArrayList<E> source;
+        private final int offset;
+        private final int size;
+
+        SubListView(CustomArrayList<E> source, int from, int to) {
+            Objects.checkFromToIndex(from, to, source.size());
+            this.source = source;
+            this.offset = from;
+            this.size = to - from;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return source.get(offset + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(E element) {
+            if (Objects.isNull(element)) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (element.equals(source.get(offset + i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public CustomArrayList<E> subList(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return new SubListView<>(source, offset + from, offset + to);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size;
+                }
+
+                @Override
+                public E next() {
+                    if (cursor >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return source.get(offset + cursor++);
+                }
+            };
+        }
+    }
+
+    /**
+     * Представление, применяющее функцию к элементам исходного списка при каждом обращении.
+     */
+    static final class MappedView<T, R> extends ReadOnlyCustomArrayList<R> {
+        private final CustomArrayList<T> source;
+        private final Function<? super T, ? extends R> mapper;
+
+        MappedView(CustomArrayList<T> source, Function<? super T, ? extends R> mapper) {
+            this.source = source;
+            this.mapper = Objects.requireNonNull(mapper, "mapper");
+        }
+
+        private R map(T element) {
+            R result = mapper.apply(element);
+            if (Objects.isNull(result)) {
+                throw new NullPointerException("Функция mapView() вернула null");
+            }
+            return result;
+        }
+
+        @Override
+        public R get(int index) {
+            return map(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return source.isEmpty();
+        }
+
+        @Override
+        public boolean contains(R element) {
+            if (Objects.isNull(element)) {
+                return false;
+            }
+            for (T sourceElement : source) {
+                if (element.equals(map(sourceElement))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public CustomArrayList<R> subList(int from, int to) {
+            return new MappedView<>(source.subList(from, to), mapper);
+        }
+
+        @Override
+        public Iterator<R> iterator() {
+            Iterator<T> iterator = source.iterator();
+            return new Iterator<R>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public R next() {
+                    return map(iterator.next());
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Consumer<? super R> action) {
+            Objects.requireNonNull(action);
+            source.forEach(element -> action.accept(map(element)));
+        }
+    }
+
+    /**
+     * Представление элементов исходного списка, удовлетворяющих предикату. Предикат вычисляется
+     * при обходе, поэтому {@link #size()} и {@link #get(int)} просматривают исходный список — O(n).
+     */
+    static final class FilteredView<E> extends ReadOnlyCustomArrayList<E> {
+        private final CustomArrayList<E> source;
+        private final Predicate<? super E> filter;
+
+        FilteredView(CustomArrayList<E> source, Predicate<? super E> filter) {
+            this.source = source;
+            this.filter = Objects.requireNonNull(filter, "filter");
+        }
+
+        @Override
+        public E get(int index) {
+            if (index >= 0) {
+                int remaining = index;
+                for (E element : source) {
+                    if (filter.test(element) && remaining-- == 0) {
+                        return element;
+                    }
+                }
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        @Override
+        public int size() {
+            int count = 0;
+            for (E element : source) {
+                if (filter.test(element)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        @Override
+        public boolean contains(E element) {
+            if (Objects.isNull(element)) {
+                return false;
+            }
+            for (E candidate : this) {
+                if (element.equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public CustomArrayList<E> filterView(Predicate<? super E> filter) {
+            Objects.requireNonNull(filter, "filter");
+            return new FilteredView<>(source, element -> this.filter.test(element) && filter.test(element));
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            Iterator<E> iterator = source.iterator();
+            return new Iterator<E>() {
+                private E next;
+
+                @Override
+                public boolean hasNext() {
+                    while (next == null && iterator.hasNext()) {
+                        E candidate = iterator.next();
+                        if (filter.test(candidate)) {
+                            next = candidate;
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    E result = next;
+                    next = null;
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            source.forEach(element -> {
+                if (filter.test(element)) {
+                    action.accept(element);
+                }
+            });
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.edu;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * {@code DefaultCustomArrayList} — это реализация интерфейса {@link com.edu.CustomArrayList},
@@ -19,6 +24,12 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      */
     private static final int DEFAULT_CAPACITY = 10;
 
+    /**
+     * Порог параллельных операций по умолчанию: списки не длиннее него обрабатываются
+     * последовательно, более длинные делятся на диапазоны примерно такой длины.
+     */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
     /**
      * Массив, в котором хранятся элементы списка.
      */
@@ -29,12 +40,85 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      */
     private int size;
 
+    /**
+     * Счётчик структурных изменений списка (добавление, удаление, очистка).
+     * Используется итератором и сплитератором для обнаружения изменений во время обхода.
+     */
+    private int modCount;
+
+    /**
+     * Длина префикса {@link #elementData}, разделяемого со снимками (см. {@link #snapshot()}).
+     * Запись в позиции меньше этого значения сначала копирует массив.
+     */
+    private int sharedPrefix;
+
+    /**
+     * Стратегия расширения внутреннего массива.
+     */
+    private final GrowthStrategy growthStrategy;
+
+    /**
+     * Пул, на котором выполняются параллельные операции.
+     */
+    private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+    /**
+     * Порог параллельных операций (см. {@link #setParallelThreshold(int)}).
+     */
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * Пул внутренних массивов или {@code null}, если пул не используется.
+     */
+    private ArrayPool arrayPool;
+
+    /**
+     * Признак режима повторного использования: {@link #clear()} сохраняет ёмкость массива.
+     */
+    private boolean reuseOnClear;
+
+    /**
+     * Статистика этого списка или {@code null}, если используется глобальная.
+     */
+    private ListStats stats;
+
+    /**
+     * Статистика, общая для всех списков без собственной статистики, или {@code null}.
+     */
+    private static volatile ListStats globalStats;
+
     /**
      * Создает пустой список с начальной емкостью по умолчанию ({@value #DEFAULT_CAPACITY}).
      */
-    @SuppressWarnings("unchecked")
     public DefaultCustomArrayList() {
-        setElementData((E[]) new Object[DEFAULT_CAPACITY]);
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и удвоением массива при росте.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     */
+    public DefaultCustomArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.doubling());
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и стратегией роста.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @param growthStrategy  стратегия расширения внутреннего массива.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     * @throws NullPointerException     если {@code growthStrategy} равна {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public DefaultCustomArrayList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity < 0 || initialCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Недопустимая начальная емкость: " + initialCapacity);
+        }
+        this.growthStrategy = Objects.requireNonNull(growthStrategy, "growthStrategy");
+        setElementData((E[]) new Object[initialCapacity]);
         setSize(0);
     }
 
@@ -44,18 +128,106 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      * @param elementData массив, элементы которого будут помещены в новый список.
      */
     public DefaultCustomArrayList(E[] elementData) {
+        this.growthStrategy = GrowthStrategy.doubling();
         setElementData(Arrays.copyOf(elementData, elementData.length));
         setSize(elementData.length);
     }
 
+    /**
+     * Создает список поверх уже заполненного массива без копирования.
+     * Массив передаётся во владение списку и не должен использоваться вызывающей стороной.
+     *
+     * @param elementData массив, первые {@code size} элементов которого составляют список.
+     * @param size        количество элементов в списке.
+     * @param <E>         тип элементов списка.
+     * @return список, использующий переданный массив как внутренний.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> DefaultCustomArrayList<E> adopt(Object[] elementData, int size) {
+        DefaultCustomArrayList<E> list = new DefaultCustomArrayList<>(0);
+        list.setElementData((E[]) elementData);
+        list.setSize(size);
+        return list;
+    }
+
     private E[] getElementData() {
         return elementData;
     }
 
     private void setElementData(E[] elementData) {
+        if (elementData != this.elementData) {
+            this.sharedPrefix = 0; // новый массив не разделяется со снимками
+        }
         this.elementData = elementData;
     }
 
+    /**
+     * Возвращает текущий массив в пул, если пул задан и массив не разделяется со снимком.
+     * Используемая часть массива предварительно обнуляется.
+     */
+    private void releaseElementData() {
+        if (Objects.nonNull(arrayPool) && sharedPrefix == 0) {
+            E[] elementData = getElementData();
+            Arrays.fill(elementData, 0, getSize(), null);
+            arrayPool.release(elementData);
+        }
+    }
+
+    /**
+     * Возвращает внутренний массив, пригодный для записи начиная с позиции {@code fromIndex}.
+     * Если эта позиция попадает в префикс, разделяемый со снимком, массив предварительно копируется.
+     */
+    private E[] writableElementData(int fromIndex) {
+        if (fromIndex < sharedPrefix) {
+            int length = getElementData().length;
+            setElementData(Arrays.copyOf(getElementData(), length));
+            ListStats stats = stats();
+            if (Objects.nonNull(stats)) {
+                stats.recordCopyOnWrite(length);
+            }
+            ListEvents.largeCopy("copyOnWrite", length);
+        }
+        return getElementData();
+    }
+
+    /**
+     * Возвращает статистику, в которую записываются события этого списка, или {@code null}.
+     */
+    private ListStats stats() {
+        ListStats stats = this.stats;
+        return Objects.nonNull(stats) ? stats : globalStats;
+    }
+
+    /**
+     * Регистрирует сдвиг {@code movedElements} элементов в статистике и событием JFR.
+     */
+    private void recordShift(String operation, int movedElements) {
+        ListStats stats = stats();
+        if (Objects.nonNull(stats)) {
+            stats.recordShift(movedElements);
+        }
+        ListEvents.largeCopy(operation, movedElements);
+    }
+
+    /**
+     * Подключает к этому списку собственную статистику вместо глобальной.
+     *
+     * @param stats статистика или {@code null}, чтобы использовать глобальную.
+     */
+    public void setStats(ListStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Подключает статистику ко всем спискам, у которых нет собственной
+     * (см. {@link #setStats(ListStats)}).
+     *
+     * @param stats статистика или {@code null}, чтобы отключить глобальную статистику.
+     */
+    public static void setGlobalStats(ListStats stats) {
+        globalStats = stats;
+    }
+
     private int getSize() {
         return size;
     }
@@ -66,7 +238,8 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
 
     /**
      * Добавляет указанный элемент в конец списка.
-     * Если массив достигает своей максимальной емкости, он автоматически увеличивается вдвое.
+     * Если массив достигает своей максимальной емкости, он расширяется согласно {@link GrowthStrategy}
+     * (по умолчанию — вдвое).
      *
      * @param element элемент, который нужно добавить.
      * @return {@code true} (согласно спецификации {@link com.edu.CustomArrayList#add(Object)}), если элемент был добавлен.
@@ -78,24 +251,100 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
             return false;
         }
         if (getSize() == getElementData().length) {
-            growElementData();
+            growElementData(getSize() + 1);
         }
         E[] resultArray = getElementData();
         resultArray[getSize()] = element;
         setSize(getSize() + 1);
         setElementData(resultArray);
+        modCount++;
         return true;
     }
 
     /**
-     * Увеличивает ёмкость массива, удваивая его текущий размер.
+     * Гарантирует, что список вмещает не менее {@code minCapacity} элементов без
+     * дополнительных расширений массива. Полезно перед добавлением большого числа элементов.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > getElementData().length) {
+            growElementData(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает ёмкость внутреннего массива до текущего размера списка,
+     * освобождая неиспользуемый запас.
      */
-    private void growElementData() {
-        setElementData(Arrays.copyOf(getElementData(), getSize() * 2));
+    public void trimToSize() {
+        if (getSize() < getElementData().length) {
+            setElementData(Arrays.copyOf(getElementData(), getSize()));
+            modCount++;
+        }
+    }
+
+    /**
+     * Возвращает текущую ёмкость внутреннего массива.
+     *
+     * @return количество элементов, которое список вмещает без расширения массива.
+     */
+    public int capacity() {
+        return getElementData().length;
+    }
+
+    /**
+     * Гарантирует, что внутренний массив вмещает не менее {@code minCapacity} элементов.
+     * Отрицательное значение означает переполнение при вычислении ёмкости.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     * @throws OutOfMemoryError если требуемая ёмкость превышает максимальный размер массива.
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > getElementData().length) {
+            growElementData(minCapacity);
+        }
+    }
+
+    /**
+     * Расширяет внутренний массив согласно стратегии роста так, чтобы он вмещал
+     * не менее {@code minCapacity} элементов. Новая ёмкость никогда не меньше
+     * {@code minCapacity}, поэтому массив нулевой длины тоже корректно растёт.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     * @throws OutOfMemoryError если требуемая ёмкость превышает {@link GrowthStrategy#MAX_ARRAY_SIZE}.
+     */
+    private void growElementData(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер массива");
+        }
+        int newCapacity = growthStrategy.newCapacity(getElementData().length, minCapacity);
+        if (newCapacity < minCapacity || newCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            newCapacity = minCapacity;
+        }
+        int oldCapacity = getElementData().length;
+        ListEvents.GrowthEvent event = ListEvents.beginGrowth();
+        if (Objects.isNull(arrayPool)) {
+            setElementData(Arrays.copyOf(getElementData(), newCapacity));
+        } else {
+            @SuppressWarnings("unchecked")
+            E[] newElementData = (E[]) arrayPool.acquire(newCapacity);
+            System.arraycopy(getElementData(), 0, newElementData, 0, getSize());
+            releaseElementData();
+            setElementData(newElementData);
+        }
+        ListEvents.endGrowth(event, oldCapacity, getElementData().length, getSize());
+        ListStats stats = stats();
+        if (Objects.nonNull(stats)) {
+            stats.recordGrowth(getSize());
+        }
     }
 
     /**
      * Добавляет все элементы из указанной коллекции в конец этого списка.
+     * <p>
+     * Коллекция копируется одним вызовом {@link Collection#toArray()}, внутренний массив
+     * расширяется не более одного раза, а элементы переносятся через {@link System#arraycopy}.
      *
      * @param c коллекция элементов, которые необходимо добавить в список
      * @return {@code true}, если список был изменён в результате вызова (т.е. были добавлены новые элементы),
@@ -104,20 +353,116 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      */
     @Override
     public boolean addAll(Collection<? extends E> c) {
+        return addAll(getSize(), c);
+    }
+
+    /**
+     * Вставляет все элементы из указанной коллекции в этот список, начиная с указанной позиции.
+     * Хвост списка сдвигается одним вызовом {@link System#arraycopy}.
+     *
+     * @param index позиция, в которую вставляется первый элемент коллекции
+     * @param c     коллекция элементов, которые необходимо вставить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если коллекция {@code c} или один из её элементов равен {@code null}
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index > size()})
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
         if (Objects.isNull(c)) {
             throw new NullPointerException("Переданная в метод addAll() класса DefaultCustomArrayList коллекция - null");
         }
-        for (E element : c) {
-            if (Objects.isNull(element)) {
+        Object[] array = c.toArray();
+        return insertRange(index, array, 0, array.length);
+    }
+
+    /**
+     * Добавляет все элементы другого списка в конец этого списка.
+     * <p>
+     * Если источник — {@code DefaultCustomArrayList}, элементы копируются напрямую из его
+     * внутреннего массива одним вызовом {@link System#arraycopy}; иначе источник
+     * один раз выгружается в массив заранее известного размера.
+     *
+     * @param other список, элементы которого необходимо добавить
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если переданный список или один из его элементов равен {@code null}
+     */
+    @Override
+    public boolean addAllFrom(CustomArrayList<? extends E> other) {
+        if (Objects.isNull(other)) {
+            throw new NullPointerException("Переданный в метод addAllFrom() класса DefaultCustomArrayList список - null");
+        }
+        if (other instanceof DefaultCustomArrayList) {
+            DefaultCustomArrayList<?> source = (DefaultCustomArrayList<?>) other;
+            return insertRange(getSize(), source.getElementData(), 0, source.getSize());
+        }
+        Object[] array = new Object[other.size()];
+        int i = 0;
+        for (E element : other) {
+            array[i++] = element;
+        }
+        return insertRange(getSize(), array, 0, i);
+    }
+
+    /**
+     * Добавляет в конец этого списка элементы массива из диапазона {@code [from, to)}
+     * без промежуточного копирования.
+     *
+     * @param array массив-источник элементов
+     * @param from  индекс первого добавляемого элемента (включительно)
+     * @param to    индекс, следующий за последним добавляемым элементом (не включительно)
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если массив или один из элементов диапазона равен {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    @Override
+    public boolean addAll(E[] array, int from, int to) {
+        if (Objects.isNull(array)) {
+            throw new NullPointerException("Переданный в метод addAll() класса DefaultCustomArrayList массив - null");
+        }
+        Objects.checkFromToIndex(from, to, array.length);
+        return insertRange(getSize(), array, from, to - from);
+    }
+
+    /**
+     * Вставляет {@code numNew} элементов массива {@code source}, начиная с {@code from},
+     * в позицию {@code index} этого списка. Перед изменением списка все вставляемые
+     * элементы проверяются на {@code null}, поэтому при ошибке список остаётся прежним.
+     *
+     * @param index  позиция вставки.
+     * @param source массив-источник.
+     * @param from   индекс первого элемента в источнике.
+     * @param numNew количество вставляемых элементов.
+     * @return {@code true}, если был вставлен хотя бы один элемент.
+     */
+    private boolean insertRange(int index, Object[] source, int from, int numNew) {
+        int size = getSize();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        for (int i = from; i < from + numNew; i++) {
+            if (Objects.isNull(source[i])) {
                 throw new NullPointerException("Коллекция содержит null элемент");
             }
         }
-
-        boolean isModified = false;
-        for (E element : c) {
-            isModified = add(element);
+        if (numNew == 0) {
+            return false;
+        }
+        if (source == getElementData()) {
+            // Вставка списка в самого себя: сдвиг хвоста испортил бы источник
+            source = Arrays.copyOfRange(source, from, from + numNew);
+            from = 0;
+        }
+        ensureCapacityInternal(size + numNew);
+        E[] elementData = writableElementData(index);
+        int numMoved = size - index;
+        if (numMoved > 0) {
+            System.arraycopy(elementData, index, elementData, index + numNew, numMoved);
+            recordShift("insert", numMoved);
         }
-        return isModified;
+        System.arraycopy(source, from, elementData, index, numNew);
+        setSize(size + numNew);
+        modCount++;
+        return true;
     }
 
     /**
@@ -128,13 +473,125 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      */
     @Override
     public boolean remove(E element) {
-        for (int i = 0; i < getSize(); i++) {
-            if (Objects.equals(elementData[i], element)) {
-                remove(i);
-                return true;
+        int index = scan(element);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Линейно ищет первое вхождение элемента и регистрирует длину поиска в статистике.
+     *
+     * @return индекс первого вхождения или {@code -1}.
+     */
+    private int scan(E element) {
+        if (Objects.isNull(element)) {
+            return -1;
+        }
+        E[] elementData = getElementData();
+        int size = getSize();
+        int index = -1;
+        for (int i = 0; i < size; i++) {
+            if (element.equals(elementData[i])) {
+                index = i;
+                break;
+            }
+        }
+        ListStats stats = stats();
+        if (Objects.nonNull(stats)) {
+            stats.recordScan(index < 0 ? size : index + 1);
+        }
+        return index;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие предикату. Сначала предикат вычисляется для всех
+     * элементов, а удаляемые отмечаются в битовой маске без изменения массива; затем оставшиеся
+     * элементы сдвигаются к началу за один проход, освободившийся хвост обнуляется для GC.
+     * Если предикат выбросит исключение, удаляются уже отмеченные элементы, и список остаётся
+     * согласованным. Если предикат изменил список, массив не трогается.
+     *
+     * @param filter предикат, возвращающий {@code true} для удаляемых элементов.
+     * @return {@code true}, если был удалён хотя бы один элемент, иначе {@code false}.
+     * @throws NullPointerException            если {@code filter} равен {@code null}.
+     * @throws ConcurrentModificationException если предикат изменил список.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        E[] elementData = getElementData();
+        int size = getSize();
+        int expectedModCount = modCount;
+        long[] removed = null;
+        int first = -1;
+        try {
+            for (int i = 0; i < size; i++) {
+                boolean remove = filter.test(elementData[i]);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (remove) {
+                    if (removed == null) {
+                        removed = new long[(size + 63) >>> 6];
+                        first = i;
+                    }
+                    removed[i >>> 6] |= 1L << i;
+                }
             }
+        } finally {
+            if (removed != null && modCount == expectedModCount) {
+                int newSize = compactRemoved(writableElementData(first), size, removed, first);
+                setSize(newSize);
+                modCount++;
+            }
+        }
+        return removed != null;
+    }
+
+    /**
+     * Сдвигает к началу элементы, не отмеченные в битовой маске, начиная с первого отмеченного,
+     * и обнуляет освободившийся хвост.
+     *
+     * @param elementData массив элементов.
+     * @param size        количество элементов в массиве.
+     * @param removed     битовая маска удаляемых индексов.
+     * @param first       индекс первого удаляемого элемента.
+     * @return количество оставшихся элементов.
+     */
+    static int compactRemoved(Object[] elementData, int size, long[] removed, int first) {
+        int write = first;
+        for (int read = first; read < size; read++) {
+            if ((removed[read >>> 6] & (1L << read)) == 0) {
+                elementData[write++] = elementData[read];
+            }
+        }
+        Arrays.fill(elementData, write, size, null); // сброс ссылок для GC
+        return write;
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона {@code [from, to)} одним сдвигом хвоста.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, следующий за последним удаляемым элементом (не включительно).
+     * @throws IndexOutOfBoundsException если {@code from < 0}, {@code to > size()} или {@code from > to}.
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        int size = getSize();
+        Objects.checkFromToIndex(from, to, size);
+        if (from == to) {
+            return;
         }
-        return false;
+        E[] elementData = writableElementData(from);
+        System.arraycopy(elementData, to, elementData, from, size - to);
+        recordShift("removeRange", size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(elementData, newSize, size, null); // сброс ссылок для GC
+        setSize(newSize);
+        modCount++;
     }
 
     /**
@@ -143,16 +600,19 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      * @param index индекс элемента, который нужно удалить.
      * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
      */
-    private void remove(int index) {
+    void removeAt(int index) {
         if (index < 0 || index >= getSize()) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getSize());
         }
+        E[] elementData = writableElementData(index);
         int numMoved = getSize() - index - 1;
         if (numMoved > 0) {
             System.arraycopy(elementData, index + 1, elementData, index, numMoved);
+            recordShift("remove", numMoved);
         }
         elementData[getSize() - 1] = null; // сброс ссылки для GC
         setSize(getSize() - 1);
+        modCount++;
     }
 
     /**
@@ -164,7 +624,7 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      */
     @Override
     public E get(int index) {
-        if (index < 0 || index > getSize()) {
+        if (index < 0 || index >= getSize()) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getSize());
         }
         return getElementData()[index];
@@ -191,13 +651,48 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
     }
 
     /**
-     * Удаляет все элементы из этого списка, сбрасывая его до начального состояния.
+     * Удаляет все элементы из этого списка.
+     * <p>
+     * По умолчанию список сбрасывается до начального состояния с массивом ёмкостью
+     * {@value #DEFAULT_CAPACITY}; прежний массив возвращается в пул, если он задан.
+     * В режиме повторного использования ({@link #setReuseOnClear(boolean)}) ёмкость сохраняется,
+     * а обнуляется только занятая часть массива, поэтому повторное заполнение до прежнего
+     * размера не выделяет памяти. Если массив разделяется со снимком, он не изменяется —
+     * вместо него берётся новый массив той же ёмкости.
      */
     @Override
     @SuppressWarnings("unchecked")
     public void clear() {
-        setElementData((E[]) new Object[DEFAULT_CAPACITY]);
+        if (reuseOnClear && sharedPrefix == 0) {
+            Arrays.fill(getElementData(), 0, getSize(), null);
+        } else {
+            int capacity = reuseOnClear ? getElementData().length : DEFAULT_CAPACITY;
+            releaseElementData();
+            setElementData((E[]) (Objects.isNull(arrayPool) ? new Object[capacity] : arrayPool.acquire(capacity)));
+        }
         setSize(0);
+        modCount++;
+    }
+
+    /**
+     * Включает или выключает режим повторного использования, в котором {@link #clear()}
+     * сохраняет ёмкость внутреннего массива. Полезно для списков, которые многократно
+     * очищаются и заполняются до похожих размеров.
+     *
+     * @param reuseOnClear {@code true}, чтобы {@link #clear()} сохранял ёмкость.
+     */
+    public void setReuseOnClear(boolean reuseOnClear) {
+        this.reuseOnClear = reuseOnClear;
+    }
+
+    /**
+     * Задаёт пул, из которого берутся новые внутренние массивы при росте и очистке
+     * и в который возвращаются прежние. Массивы, разделяемые со снимками, в пул не возвращаются.
+     *
+     * @param arrayPool пул массивов или {@code null}, чтобы не использовать пул.
+     */
+    public void setArrayPool(ArrayPool arrayPool) {
+        this.arrayPool = arrayPool;
     }
 
     /**
@@ -208,25 +703,468 @@ public class DefaultCustomArrayList<E> implements CustomArrayList<E> {
      */
     @Override
     public boolean contains(E element) {
+        return scan(element) >= 0;
+    }
+
+    /**
+     * Возвращает неизменяемый снимок списка за O(1), не копируя элементы.
+     * <p>
+     * Снимок разделяет внутренний массив со списком. Добавления в конец списка пишут за пределы
+     * разделяемого префикса и не копируют массив. Первая операция, изменяющая элементы префикса
+     * (удаление, вставка в середину, {@link #replaceAll(UnaryOperator)}, сортировка), копирует
+     * массив целиком — однократно O(n), после чего список снова работает без копирований
+     * до следующего снимка. Снимок не отслеживает изменения списка и может читаться
+     * из других потоков, если передан им через безопасную публикацию.
+     *
+     * @return неизменяемый снимок списка.
+     */
+    @Override
+    public CustomArrayList<E> snapshot() {
+        sharedPrefix = getSize();
+        return new ImmutableCustomArrayList<>(adopt(getElementData(), getSize()));
+    }
+
+    /**
+     * Задаёт пул, на котором выполняются параллельные операции
+     * ({@link #parallelContains(Object)}, {@link #parallelIndexOf(Object)}, {@link #parallelForEach(Consumer)},
+     * {@link #replaceAll(UnaryOperator)}, {@link #reduce(Object, BinaryOperator)}, {@link #parallelSort(Comparator)}).
+     * По умолчанию используется {@link ForkJoinPool#commonPool()}.
+     *
+     * @param forkJoinPool пул для параллельных операций.
+     * @throws NullPointerException если {@code forkJoinPool} равен {@code null}.
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = Objects.requireNonNull(forkJoinPool, "forkJoinPool");
+    }
+
+    /**
+     * Задаёт порог параллельных операций: списки не длиннее {@code parallelThreshold} элементов
+     * обрабатываются последовательно в вызывающем потоке, более длинные делятся пополам,
+     * пока длина диапазона не станет не больше порога. По умолчанию —
+     * {@value #DEFAULT_PARALLEL_THRESHOLD}.
+     *
+     * @param parallelThreshold порог в элементах.
+     * @throws IllegalArgumentException если {@code parallelThreshold} не положителен.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Недопустимый порог параллельных операций: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    private boolean runsSequentially() {
+        return getSize() <= parallelThreshold || forkJoinPool.getParallelism() == 1;
+    }
+
+    /**
+     * Проверяет наличие элемента, просматривая диапазоны массива параллельно.
+     * Как только одна из задач находит элемент, остальные прекращают просмотр.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    public boolean parallelContains(E element) {
         if (Objects.isNull(element)) {
             return false;
         }
+        if (runsSequentially()) {
+            return contains(element);
+        }
+        return ParallelArrayOps.indexOf(forkJoinPool, getElementData(), getSize(), element, false,
+                parallelThreshold) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента, просматривая диапазоны массива параллельно.
+     * Задачи, чей диапазон лежит правее уже найденного вхождения, прекращают просмотр.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int parallelIndexOf(E element) {
+        if (Objects.isNull(element)) {
+            return -1;
+        }
         E[] elementData = getElementData();
-        for (int i = 0; i < getSize(); i++) {
-            if (Objects.equals(elementData[i], element)) {
-                return true;
+        if (runsSequentially()) {
+            for (int i = 0; i < getSize(); i++) {
+                if (element.equals(elementData[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        return ParallelArrayOps.indexOf(forkJoinPool, elementData, getSize(), element, true, parallelThreshold);
+    }
+
+    /**
+     * Выполняет действие для каждого элемента параллельно. Порядок вызовов не определён,
+     * поэтому действие должно быть потокобезопасным.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws NullPointerException            если {@code action} равен {@code null}.
+     * @throws ConcurrentModificationException если список был структурно изменён во время обхода.
+     */
+    public void parallelForEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        if (runsSequentially()) {
+            forEach(action);
+            return;
+        }
+        int expectedModCount = modCount;
+        ParallelArrayOps.forEach(forkJoinPool, getElementData(), getSize(), action, parallelThreshold);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Заменяет каждый элемент результатом применения к нему функции. Списки длиннее порога
+     * обрабатываются параллельно, поэтому функция не должна зависеть от порядка вызовов.
+     * Как и {@link java.util.ArrayList#replaceAll(UnaryOperator)}, увеличивает счётчик изменений,
+     * поэтому открытые итераторы и представления {@link #subList(int, int)} становятся недействительными.
+     *
+     * @param operator функция, вычисляющая новый элемент.
+     * @throws NullPointerException            если {@code operator} равен {@code null} или вернул {@code null}.
+     * @throws ConcurrentModificationException если список был структурно изменён во время замены.
+     */
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        E[] elementData = writableElementData(0);
+        if (runsSequentially()) {
+            for (int i = 0; i < getSize() && modCount == expectedModCount; i++) {
+                E replacement = operator.apply(elementData[i]);
+                if (Objects.isNull(replacement)) {
+                    throw new NullPointerException("Функция replaceAll() вернула null");
+                }
+                elementData[i] = replacement;
             }
+        } else {
+            ParallelArrayOps.replaceAll(forkJoinPool, elementData, getSize(), operator, parallelThreshold);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
         }
-        return false;
+        modCount++;
+    }
+
+    /**
+     * Сворачивает элементы списка функцией {@code accumulator}. Списки длиннее порога
+     * сворачиваются по диапазонам параллельно, и частичные результаты объединяются той же функцией,
+     * поэтому функция должна быть ассоциативной, а {@code identity} — её нейтральным элементом.
+     *
+     * @param identity    нейтральный элемент свёртки.
+     * @param accumulator ассоциативная функция свёртки.
+     * @return результат свёртки; {@code identity} для пустого списка.
+     * @throws NullPointerException если {@code accumulator} равен {@code null}.
+     */
+    public E reduce(E identity, BinaryOperator<E> accumulator) {
+        Objects.requireNonNull(accumulator);
+        E[] elementData = getElementData();
+        if (runsSequentially()) {
+            E result = identity;
+            for (int i = 0; i < getSize(); i++) {
+                result = accumulator.apply(result, elementData[i]);
+            }
+            return result;
+        }
+        return ParallelArrayOps.reduce(forkJoinPool, elementData, getSize(), identity, accumulator,
+                parallelThreshold);
+    }
+
+    /**
+     * Сортирует список устойчивой сортировкой слиянием: диапазоны не длиннее порога
+     * сортируются параллельно, затем отсортированные половины сливаются.
+     * Требует временный массив длиной {@code size()}.
+     *
+     * @param comparator компаратор, задающий порядок элементов.
+     * @throws NullPointerException если {@code comparator} равен {@code null}.
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        Objects.requireNonNull(comparator);
+        int expectedModCount = modCount;
+        E[] elementData = writableElementData(0);
+        if (runsSequentially()) {
+            Arrays.sort(elementData, 0, getSize(), comparator);
+        } else {
+            ParallelArrayOps.sort(forkJoinPool, elementData, getSize(), comparator, parallelThreshold);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
     }
 
     /**
      * Возвращает итератор по элементам этого списка.
+     * <p>
+     * Итератор читает элементы напрямую из внутреннего массива, не копируя его.
+     * Если список структурно изменён во время обхода, итератор выбрасывает
+     * {@link ConcurrentModificationException}.
      *
      * @return итератор по элементам списка.
      */
     @Override
     public Iterator<E> iterator() {
-        return Arrays.stream(Arrays.copyOf(getElementData(), getSize())).iterator();
+        return new Itr();
+    }
+
+    /**
+     * Выполняет действие для каждого элемента списка, обходя внутренний массив напрямую.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws NullPointerException            если {@code action} равен {@code null}.
+     * @throws ConcurrentModificationException если список изменён во время обхода.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        E[] elementData = getElementData();
+        int size = getSize();
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(elementData[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Возвращает {@link Spliterator} по элементам списка с характеристиками
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED}
+     * и {@link Spliterator#NONNULL}. Разбиение делит диапазон индексов пополам,
+     * поэтому параллельные потоки получают равные части списка.
+     *
+     * @return сплитератор по элементам списка.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ListSpliterator(0, getSize(), modCount);
+    }
+
+    /**
+     * Возвращает представление диапазона {@code [from, to)}, читающее элементы напрямую
+     * из {@link #elementData} со смещением {@code from}, без копирования.
+     * После структурного изменения списка обращения к представлению выбрасывают
+     * {@link ConcurrentModificationException}.
+     *
+     * @param from индекс первого элемента (включительно).
+     * @param to   индекс, следующий за последним элементом (не включительно).
+     * @return представление диапазона, доступное только для чтения.
+     * @throws IndexOutOfBoundsException если {@code from < 0}, {@code to > size()} или {@code from > to}.
+     */
+    @Override
+    public CustomArrayList<E> subList(int from, int to) {
+        Objects.checkFromToIndex(from, to, getSize());
+        return new SubList(from, to);
+    }
+
+    /**
+     * Копирует список в новый {@link DefaultCustomArrayList} одним вызовом {@link Arrays#copyOf}.
+     *
+     * @return новый список с элементами этого списка.
+     */
+    @Override
+    public CustomArrayList<E> materialize() {
+        return adopt(Arrays.copyOf(getElementData(), getSize(), Object[].class), getSize());
+    }
+
+    /**
+     * Представление диапазона {@code [offset, fence)} внутреннего массива.
+     */
+    private class SubList extends ReadOnlyCustomArrayList<E> {
+        private final int offset;
+        private final int fence;
+        private final int expectedModCount = modCount;
+
+        SubList(int offset, int fence) {
+            this.offset = offset;
+            this.fence = fence;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, fence - offset);
+            return getElementData()[offset + index];
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return fence - offset;
+        }
+
+        @Override
+        public boolean contains(E element) {
+            checkForComodification();
+            if (Objects.isNull(element)) {
+                return false;
+            }
+            E[] elementData = getElementData();
+            for (int i = offset; i < fence; i++) {
+                if (element.equals(elementData[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public CustomArrayList<E> subList(int from, int to) {
+            checkForComodification();
+            Objects.checkFromToIndex(from, to, fence - offset);
+            return new SubList(offset + from, offset + to);
+        }
+
+        @Override
+        public CustomArrayList<E> materialize() {
+            checkForComodification();
+            return adopt(Arrays.copyOfRange(getElementData(), offset, fence, Object[].class), fence - offset);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            checkForComodification();
+            return Spliterators.iterator(spliterator());
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            spliterator().forEachRemaining(action);
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            checkForComodification();
+            return new ListSpliterator(offset, fence, expectedModCount);
+        }
+    }
+
+    /**
+     * Итератор, читающий элементы напрямую из {@link #elementData}.
+     */
+    private class Itr implements Iterator<E> {
+        /**
+         * Индекс следующего возвращаемого элемента.
+         */
+        private int cursor;
+
+        /**
+         * Значение {@link #modCount}, ожидаемое итератором.
+         */
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < getSize();
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int i = cursor;
+            if (i >= getSize()) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return getElementData()[i];
+        }
+    }
+
+    /**
+     * Сплитератор по диапазону индексов {@code [index, fence)} внутреннего массива.
+     */
+    private class ListSpliterator implements Spliterator<E> {
+        /**
+         * Текущий индекс, изменяется при обходе и разбиении.
+         */
+        private int index;
+
+        /**
+         * Индекс, следующий за последним элементом диапазона.
+         */
+        private final int fence;
+
+        /**
+         * Значение {@link #modCount}, ожидаемое сплитератором.
+         */
+        private final int expectedModCount;
+
+        ListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int i = index;
+            if (i >= fence) {
+                return false;
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            index = i + 1;
+            E element = getElementData()[i];
+            action.accept(element);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            E[] elementData = getElementData();
+            int hi = fence;
+            int i = index;
+            // Массив мог быть заменён более коротким (например, clear()) после создания сплитератора
+            if (modCount != expectedModCount || hi > elementData.length) {
+                throw new ConcurrentModificationException();
+            }
+            index = hi;
+            for (; i < hi; i++) {
+                action.accept(elementData[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,423 @@
+package com.edu;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@code DictionaryCustomArrayList} — реализация {@link CustomArrayList} со словарным кодированием
+ * для списков с небольшим числом различных значений.
+ * <p>
+ * Каждое различное значение хранится один раз в словаре и получает код — номер в словаре.
+ * Сам список хранит коды в плотном примитивном массиве: {@code byte[]}, пока различных значений
+ * не больше 256, {@code short[]} — до 65 536, затем {@code int[]}. Массив кодов расширяется
+ * автоматически при появлении очередного значения, не помещающегося в текущую ширину.
+ * Поэтому элемент занимает 1–2 байта вместо 4–8 байт ссылки, а {@link #contains(Object)}
+ * и {@link #indexOf(Object)} выполняют один поиск в словаре и просмотр примитивного массива
+ * без вызовов {@code equals}.
+ * <p>
+ * Коды не освобождаются при удалении элементов: словарь очищается только методом {@link #clear()}.
+ * Значения словаря сравниваются по {@code equals}/{@code hashCode} и не должны изменяться.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class DictionaryCustomArrayList<E> implements CustomArrayList<E> {
+    /**
+     * Начальная емкость массива кодов по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Количество различных значений, при котором коды перестают помещаться в {@code byte}.
+     */
+    private static final int BYTE_LIMIT = 1 << 8;
+
+    /**
+     * Количество различных значений, при котором коды перестают помещаться в {@code short}.
+     */
+    private static final int SHORT_LIMIT = 1 << 16;
+
+    /**
+     * Значения словаря по коду.
+     */
+    private Object[] values = new Object[16];
+
+    /**
+     * Коды значений словаря.
+     */
+    private final Map<Object, Integer> codes = new HashMap<>();
+
+    /**
+     * Массив кодов при ширине 1 байт, иначе {@code null}.
+     */
+    private byte[] byteCodes;
+
+    /**
+     * Массив кодов при ширине 2 байта, иначе {@code null}.
+     */
+    private short[] shortCodes;
+
+    /**
+     * Массив кодов при ширине 4 байта, иначе {@code null}.
+     */
+    private int[] intCodes;
+
+    /**
+     * Количество элементов в списке.
+     */
+    private int size;
+
+    /**
+     * Счётчик структурных изменений списка.
+     */
+    private int modCount;
+
+    /**
+     * Создает пустой список с начальной емкостью по умолчанию ({@value #DEFAULT_CAPACITY}).
+     */
+    public DictionaryCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью массива кодов.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     */
+    public DictionaryCustomArrayList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Недопустимая начальная емкость: " + initialCapacity);
+        }
+        this.byteCodes = new byte[initialCapacity];
+    }
+
+    /**
+     * Возвращает количество различных значений в словаре.
+     *
+     * @return размер словаря.
+     */
+    public int distinctCount() {
+        return codes.size();
+    }
+
+    /**
+     * Возвращает текущую ширину кода в байтах: 1, 2 или 4.
+     *
+     * @return ширина кода.
+     */
+    public int codeWidth() {
+        return byteCodes != null ? Byte.BYTES : shortCodes != null ? Short.BYTES : Integer.BYTES;
+    }
+
+    private int capacity() {
+        return byteCodes != null ? byteCodes.length : shortCodes != null ? shortCodes.length : intCodes.length;
+    }
+
+    private int codeAt(int index) {
+        if (byteCodes != null) {
+            return byteCodes[index] & 0xFF;
+        }
+        if (shortCodes != null) {
+            return shortCodes[index] & 0xFFFF;
+        }
+        return intCodes[index];
+    }
+
+    private void setCode(int index, int code) {
+        if (byteCodes != null) {
+            byteCodes[index] = (byte) code;
+        } else if (shortCodes != null) {
+            shortCodes[index] = (short) code;
+        } else {
+            intCodes[index] = code;
+        }
+    }
+
+    /**
+     * Возвращает код значения, добавляя значение в словарь при необходимости.
+     * Если новый код не помещается в текущую ширину, массив кодов расширяется.
+     */
+    private int encode(E element) {
+        Integer code = codes.get(element);
+        if (code != null) {
+            return code;
+        }
+        int newCode = codes.size();
+        if (newCode == BYTE_LIMIT && byteCodes != null) {
+            widenToShort();
+        } else if (newCode == SHORT_LIMIT && shortCodes != null) {
+            widenToInt();
+        }
+        if (newCode == values.length) {
+            values = Arrays.copyOf(values, newCode * 2);
+        }
+        values[newCode] = element;
+        codes.put(element, newCode);
+        return newCode;
+    }
+
+    private void widenToShort() {
+        short[] widened = new short[byteCodes.length];
+        for (int i = 0; i < size; i++) {
+            widened[i] = (short) (byteCodes[i] & 0xFF);
+        }
+        shortCodes = widened;
+        byteCodes = null;
+    }
+
+    private void widenToInt() {
+        int[] widened = new int[shortCodes.length];
+        for (int i = 0; i < size; i++) {
+            widened[i] = shortCodes[i] & 0xFFFF;
+        }
+        intCodes = widened;
+        shortCodes = null;
+    }
+
+    /**
+     * Гарантирует, что массив кодов вмещает не менее {@code minCapacity} элементов.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер");
+        }
+        if (minCapacity <= capacity()) {
+            return;
+        }
+        int newCapacity = GrowthStrategy.doubling().newCapacity(capacity(), minCapacity);
+        if (byteCodes != null) {
+            byteCodes = Arrays.copyOf(byteCodes, newCapacity);
+        } else if (shortCodes != null) {
+            shortCodes = Arrays.copyOf(shortCodes, newCapacity);
+        } else {
+            intCodes = Arrays.copyOf(intCodes, newCapacity);
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец списка: значение ищется в словаре (или добавляется в него),
+     * в массив кодов записывается его код.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        int code = encode(element);
+        ensureCapacity(size + 1);
+        setCode(size++, code);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка, расширив массив кодов не более одного раза
+     * (не считая расширения ширины кода).
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса DictionaryCustomArrayList коллекция - null");
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (array.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + array.length);
+        for (Object element : array) {
+            setCode(size++, encode((E) element));
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента, сдвигая хвост массива кодов.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        int numMoved = size - index - 1;
+        if (byteCodes != null) {
+            System.arraycopy(byteCodes, index + 1, byteCodes, index, numMoved);
+        } else if (shortCodes != null) {
+            System.arraycopy(shortCodes, index + 1, shortCodes, index, numMoved);
+        } else {
+            System.arraycopy(intCodes, index + 1, intCodes, index, numMoved);
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Возвращает элемент по индексу: значение словаря по коду.
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) values[codeAt(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы из списка и очищает словарь. Ёмкость массива кодов сохраняется,
+     * ширина кода возвращается к одному байту.
+     */
+    @Override
+    public void clear() {
+        byteCodes = new byte[capacity()];
+        shortCodes = null;
+        intCodes = null;
+        Arrays.fill(values, 0, codes.size(), null);
+        codes.clear();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Проверяет наличие элемента: один поиск в словаре и, если значение в нём есть,
+     * просмотр примитивного массива кодов.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента, сравнивая коды, а не значения.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int indexOf(E element) {
+        if (Objects.isNull(element)) {
+            return -1;
+        }
+        Integer code = codes.get(element);
+        if (code == null) {
+            return -1;
+        }
+        if (byteCodes != null) {
+            byte target = (byte) code.intValue();
+            for (int i = 0; i < size; i++) {
+                if (byteCodes[i] == target) {
+                    return i;
+                }
+            }
+        } else if (shortCodes != null) {
+            short target = (short) code.intValue();
+            for (int i = 0; i < size; i++) {
+                if (shortCodes[i] == target) {
+                    return i;
+                }
+            }
+        } else {
+            int target = code;
+            for (int i = 0; i < size; i++) {
+                if (intCodes[i] == target) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает итератор, декодирующий элементы по мере обхода.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int cursor;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (E) values[codeAt(cursor++)];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept((E) values[codeAt(i)]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+}
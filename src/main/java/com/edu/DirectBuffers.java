@@ -0,0 +1,55 @@
+package com.edu;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Явное освобождение памяти прямых и отображённых в память буферов.
+ * <p>
+ * До Java 22 у {@link ByteBuffer} нет публичного API для освобождения памяти: она
+ * возвращается только после сборки мусора. Класс вызывает {@code sun.misc.Unsafe#invokeCleaner}
+ * через рефлексию; если он недоступен, освобождение откладывается до сборщика мусора.
+ */
+final class DirectBuffers {
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Освобождает память прямого буфера. После вызова буфер использовать нельзя.
+     *
+     * @param buffer прямой буфер, созданный {@link ByteBuffer#allocateDirect(int)}
+     *               или {@link java.nio.channels.FileChannel#map}.
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            // Память будет освобождена сборщиком мусора
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.edu;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов фиксированной ширины для хранения списка вне кучи или в файле.
+ * <p>
+ * Каждый элемент кодируется ровно в {@link #width()} байт по абсолютному смещению в буфере,
+ * без изменения позиции буфера и без создания промежуточных объектов. Кодирование должно быть
+ * взаимно однозначным: равные по {@code equals} элементы дают одинаковые байты, поэтому
+ * поиск элемента может сравнивать байты, не декодируя их.
+ *
+ * @param <E> тип кодируемых элементов.
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Возвращает количество байт, занимаемых одним элементом.
+     *
+     * @return ширина элемента в байтах.
+     */
+    int width();
+
+    /**
+     * Записывает элемент в буфер, начиная с указанного смещения.
+     *
+     * @param buffer  буфер назначения.
+     * @param offset  абсолютное смещение в байтах.
+     * @param element элемент для записи (не {@code null}).
+     */
+    void write(ByteBuffer buffer, int offset, E element);
+
+    /**
+     * Читает элемент из буфера, начиная с указанного смещения.
+     *
+     * @param buffer буфер-источник.
+     * @param offset абсолютное смещение в байтах.
+     * @return прочитанный элемент.
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Возвращает имя кодека, которое сохраняется вместе с данными и проверяется при чтении.
+     * Не должно превышать 96 байт в UTF-8.
+     *
+     * @return имя кодека.
+     */
+    default String name() {
+        return getClass().getName();
+    }
+
+    /**
+     * Возвращает кодек для {@link Integer} шириной 4 байта.
+     *
+     * @return кодек целых чисел.
+     */
+    static ElementCodec<Integer> ints() {
+        return new ElementCodec<Integer>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer element) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public String name() {
+                return "int32";
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * Возвращает кодек для {@link Long} шириной 8 байт.
+     *
+     * @return кодек длинных целых чисел.
+     */
+    static ElementCodec<Long> longs() {
+        return new ElementCodec<Long>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long element) {
+                buffer.putLong(offset, element);
+            }
+
+            @Override
+            public String name() {
+                return "int64";
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * Возвращает кодек для {@link Double} шириной 8 байт. Значения хранятся побитово,
+     * поэтому сравнение байтов совпадает с {@link Double#equals(Object)}.
+     *
+     * @return кодек чисел с плавающей точкой.
+     */
+    static ElementCodec<Double> doubles() {
+        return new ElementCodec<Double>() {
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double element) {
+                buffer.putLong(offset, Double.doubleToLongBits(element));
+            }
+
+            @Override
+            public String name() {
+                return "float64";
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return Double.longBitsToDouble(buffer.getLong(offset));
+            }
+        };
+    }
+}
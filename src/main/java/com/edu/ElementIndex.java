@@ -0,0 +1,233 @@
+package com.edu;
+
+/**
+ * Хеш-индекс «элемент → позиция первого вхождения и число вхождений» с открытой адресацией.
+ * <p>
+ * Используется {@link IndexedCustomArrayList}. Коллизии разрешаются линейным пробированием,
+ * удаление выполняется обратным сдвигом без «надгробий», поэтому длина цепочек не растёт
+ * при чередовании вставок и удалений. Таблица расширяется вдвое, когда заполнена наполовину.
+ * <p>
+ * Ключи не могут быть {@code null}: пустая ячейка таблицы обозначается {@code null}.
+ */
+final class ElementIndex {
+    /**
+     * Минимальный размер таблицы (степень двойки).
+     */
+    private static final int MIN_TABLE_SIZE = 16;
+
+    /**
+     * Ключи таблицы; {@code null} — пустая ячейка.
+     */
+    private Object[] keys;
+
+    /**
+     * Позиция первого вхождения ключа в списке.
+     */
+    private int[] firstIndexes;
+
+    /**
+     * Количество вхождений ключа в список.
+     */
+    private int[] counts;
+
+    /**
+     * Количество различных ключей в таблице.
+     */
+    private int distinct;
+
+    ElementIndex() {
+        allocate(MIN_TABLE_SIZE);
+    }
+
+    /**
+     * Возвращает количество различных элементов в индексе.
+     *
+     * @return количество различных элементов.
+     */
+    int distinct() {
+        return distinct;
+    }
+
+    /**
+     * Возвращает позицию первого вхождения элемента.
+     *
+     * @param element искомый элемент (не {@code null}).
+     * @return позиция первого вхождения или {@code -1}, если элемента нет в индексе.
+     */
+    int firstIndexOf(Object element) {
+        int slot = find(element);
+        return slot < 0 ? -1 : firstIndexes[slot];
+    }
+
+    /**
+     * Возвращает количество вхождений элемента.
+     *
+     * @param element искомый элемент (не {@code null}).
+     * @return количество вхождений; {@code 0}, если элемента нет в индексе.
+     */
+    int count(Object element) {
+        int slot = find(element);
+        return slot < 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * Регистрирует вхождение элемента в позиции {@code position}. Если элемент уже
+     * присутствует, позиция первого вхождения обновляется только когда новая позиция меньше.
+     *
+     * @param element  элемент (не {@code null}).
+     * @param position позиция элемента в списке.
+     */
+    void addOccurrence(Object element, int position) {
+        int mask = keys.length - 1;
+        int slot = spread(element.hashCode()) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equals(element)) {
+                counts[slot]++;
+                if (position < firstIndexes[slot]) {
+                    firstIndexes[slot] = position;
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = element;
+        firstIndexes[slot] = position;
+        counts[slot] = 1;
+        if (++distinct * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Уменьшает количество вхождений элемента и удаляет его из индекса,
+     * если вхождений не осталось.
+     *
+     * @param element элемент, присутствующий в индексе.
+     * @return оставшееся количество вхождений.
+     */
+    int removeOccurrence(Object element) {
+        int slot = find(element);
+        if (slot < 0) {
+            return 0;
+        }
+        int remaining = --counts[slot];
+        if (remaining == 0) {
+            deleteSlot(slot);
+        }
+        return remaining;
+    }
+
+    /**
+     * Устанавливает позицию первого вхождения элемента.
+     *
+     * @param element  элемент, присутствующий в индексе.
+     * @param position новая позиция первого вхождения.
+     */
+    void setFirstIndex(Object element, int position) {
+        int slot = find(element);
+        if (slot >= 0) {
+            firstIndexes[slot] = position;
+        }
+    }
+
+    /**
+     * Заменяет позицию первого вхождения элемента с {@code oldPosition} на {@code newPosition},
+     * если она действительно равна {@code oldPosition}. Используется при сдвиге хвоста списка.
+     *
+     * @param element     элемент списка.
+     * @param oldPosition ожидаемая текущая позиция первого вхождения.
+     * @param newPosition новая позиция первого вхождения.
+     */
+    void moveFirstIndex(Object element, int oldPosition, int newPosition) {
+        int slot = find(element);
+        if (slot >= 0 && firstIndexes[slot] == oldPosition) {
+            firstIndexes[slot] = newPosition;
+        }
+    }
+
+    /**
+     * Удаляет все элементы из индекса и возвращает таблицу к минимальному размеру.
+     */
+    void clear() {
+        allocate(MIN_TABLE_SIZE);
+    }
+
+    private int find(Object element) {
+        int mask = keys.length - 1;
+        int slot = spread(element.hashCode()) & mask;
+        Object key;
+        while ((key = keys[slot]) != null) {
+            if (key.equals(element)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет ключ из ячейки и сдвигает назад последующие ключи цепочки,
+     * чтобы поиск не прерывался на образовавшейся пустой ячейке.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            Object key = keys[next];
+            if (key == null) {
+                break;
+            }
+            int ideal = spread(key.hashCode()) & mask;
+            // Ключ можно перенести в «дыру», если его идеальная ячейка не лежит между hole и next
+            boolean movable = hole <= next
+                    ? ideal <= hole || ideal > next
+                    : ideal <= hole && ideal > next;
+            if (movable) {
+                keys[hole] = key;
+                firstIndexes[hole] = firstIndexes[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+        }
+        keys[hole] = null;
+        distinct--;
+    }
+
+    private void resize(int newSize) {
+        Object[] oldKeys = keys;
+        int[] oldFirstIndexes = firstIndexes;
+        int[] oldCounts = counts;
+        allocate(newSize);
+        int mask = newSize - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int slot = spread(key.hashCode()) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                firstIndexes[slot] = oldFirstIndexes[i];
+                counts[slot] = oldCounts[i];
+                distinct++;
+            }
+        }
+    }
+
+    private void allocate(int size) {
+        keys = new Object[size];
+        firstIndexes = new int[size];
+        counts = new int[size];
+        distinct = 0;
+    }
+
+    /**
+     * Перемешивает старшие биты хеш-кода в младшие, так как индекс ячейки берётся по маске.
+     */
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
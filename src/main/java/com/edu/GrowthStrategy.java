@@ -0,0 +1,91 @@
+package com.edu;
+
+/**
+ * Стратегия расширения внутреннего массива списка.
+ * <p>
+ * Определяет новую ёмкость массива, когда текущей ёмкости не хватает для очередной
+ * вставки. Позволяет выбирать между количеством копирований при росте списка
+ * и объёмом неиспользуемого запаса в массиве.
+ * <p>
+ * Готовые стратегии создаются фабричными методами {@link #doubling()}, {@link #oneAndHalf()},
+ * {@link #multiplying(double)} и {@link #additive(int)}. Все они ограничивают результат
+ * значением {@link #MAX_ARRAY_SIZE}.
+ */
+@FunctionalInterface
+public interface GrowthStrategy {
+
+    /**
+     * Максимальный размер массива. Некоторые JVM резервируют несколько слов под заголовок,
+     * поэтому попытка выделить массив большего размера может привести к {@link OutOfMemoryError}.
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Вычисляет новую ёмкость массива.
+     *
+     * @param oldCapacity текущая ёмкость массива.
+     * @param minCapacity минимально необходимая ёмкость ({@code minCapacity > oldCapacity}).
+     * @return новая ёмкость; значения меньше {@code minCapacity} или больше {@link #MAX_ARRAY_SIZE}
+     *         корректируются вызывающей стороной.
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+
+    /**
+     * Возвращает стратегию, удваивающую ёмкость массива.
+     *
+     * @return стратегия удвоения.
+     */
+    static GrowthStrategy doubling() {
+        return (oldCapacity, minCapacity) -> bounded(2L * oldCapacity, minCapacity);
+    }
+
+    /**
+     * Возвращает стратегию, увеличивающую ёмкость в полтора раза (как {@link java.util.ArrayList}).
+     *
+     * @return стратегия увеличения в 1.5 раза.
+     */
+    static GrowthStrategy oneAndHalf() {
+        return (oldCapacity, minCapacity) -> bounded((long) oldCapacity + (oldCapacity >> 1), minCapacity);
+    }
+
+    /**
+     * Возвращает стратегию, умножающую ёмкость на указанный коэффициент.
+     *
+     * @param factor коэффициент роста.
+     * @return стратегия умножения на {@code factor}.
+     * @throws IllegalArgumentException если {@code factor <= 1}.
+     */
+    static GrowthStrategy multiplying(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Коэффициент роста должен быть больше 1: " + factor);
+        }
+        return (oldCapacity, minCapacity) -> bounded((long) Math.min(oldCapacity * factor, MAX_ARRAY_SIZE), minCapacity);
+    }
+
+    /**
+     * Возвращает стратегию, увеличивающую ёмкость на фиксированный шаг.
+     * Минимизирует запас в массиве ценой большего количества копирований.
+     *
+     * @param step шаг увеличения ёмкости.
+     * @return стратегия аддитивного роста.
+     * @throws IllegalArgumentException если {@code step <= 0}.
+     */
+    static GrowthStrategy additive(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Шаг роста должен быть положительным: " + step);
+        }
+        return (oldCapacity, minCapacity) -> bounded((long) oldCapacity + step, minCapacity);
+    }
+
+    /**
+     * Ограничивает желаемую ёмкость снизу значением {@code minCapacity},
+     * а сверху — {@link #MAX_ARRAY_SIZE}.
+     *
+     * @param desired     желаемая ёмкость.
+     * @param minCapacity минимально необходимая ёмкость.
+     * @return скорректированная ёмкость.
+     */
+    private static int bounded(long desired, int minCapacity) {
+        return (int) Math.min(Math.max(desired, minCapacity), MAX_ARRAY_SIZE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.edu;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Неизменяемое представление {@link CustomArrayList}, возвращаемое {@link CustomArrayList#snapshot()}.
+ * <p>
+ * Операции чтения делегируются обёрнутому списку, любые изменяющие операции выбрасывают
+ * {@link UnsupportedOperationException}. Обёрнутый список не должен быть доступен
+ * для изменения никому, кроме владельца снимка, соблюдающего копирование при записи.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+final class ImmutableCustomArrayList<E> extends ReadOnlyCustomArrayList<E> {
+    /**
+     * Список, к которому делегируются операции чтения.
+     */
+    private final CustomArrayList<E> delegate;
+
+    ImmutableCustomArrayList(CustomArrayList<E> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Снимок списка неизменяем");
+    }
+
+    /**
+     * Возвращает этот же объект: снимок неизменяем, копировать его не нужно.
+     *
+     * @return этот снимок.
+     */
+    @Override
+    public CustomArrayList<E> snapshot() {
+        return this;
+    }
+
+    @Override
+    public CustomArrayList<E> subList(int from, int to) {
+        return delegate.subList(from, to);
+    }
+
+    @Override
+    public CustomArrayList<E> materialize() {
+        return delegate.materialize();
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return delegate.contains(element);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return delegate.spliterator();
+    }
+}
@@ -0,0 +1,300 @@
+package com.edu;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@code IndexedCustomArrayList} — реализация {@link CustomArrayList} с хеш-индексом,
+ * ускоряющим проверку наличия и поиск элемента.
+ * <p>
+ * Элементы хранятся в {@link DefaultCustomArrayList}, поэтому порядок, доступ по индексу
+ * и итерация работают так же. Дополнительно поддерживается {@link ElementIndex} — таблица
+ * с открытой адресацией «элемент → позиция первого вхождения и число вхождений».
+ * С ней {@link #contains(Object)} и {@link #indexOf(Object)} выполняются в среднем за O(1),
+ * а {@link #remove(Object)} находит элемент за O(1), после чего, как и в обычном списке,
+ * сдвигает хвост массива и обновляет позиции сдвинутых элементов за O(n - index).
+ * <p>
+ * <b>Накладные расходы.</b> На каждый различный элемент индекс хранит ссылку и два {@code int}
+ * при заполнении таблицы не более чем наполовину, т.е. от 24 до 48 байт на различный элемент
+ * (со сжатыми ссылками) поверх самого списка, плюс промежуточные таблицы при росте.
+ * {@link #add(Object)} дополнительно вычисляет {@code hashCode} элемента и вставляет его в таблицу.
+ * <p>
+ * <b>Точка окупаемости.</b> По {@code IndexedBenchmark} (JDK 17, {@code Integer}/{@code String})
+ * поиск по индексу быстрее линейного уже для списков из 4–8 элементов, а заполнение списка
+ * с индексом обходится примерно в 13 нс и 50 байт на элемент дороже. Поэтому индекс оправдан,
+ * когда на каждое добавление приходится хотя бы одна-две проверки {@code contains} или
+ * {@code remove(E)} в списке из десятков элементов и больше.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class IndexedCustomArrayList<E> implements CustomArrayList<E> {
+    /**
+     * Хранилище элементов в порядке добавления.
+     */
+    private final DefaultCustomArrayList<E> elements;
+
+    /**
+     * Индекс «элемент → первая позиция и число вхождений».
+     */
+    private final ElementIndex index = new ElementIndex();
+
+    /**
+     * Создает пустой индексированный список с начальной емкостью по умолчанию.
+     */
+    public IndexedCustomArrayList() {
+        this.elements = new DefaultCustomArrayList<>();
+    }
+
+    /**
+     * Создает пустой индексированный список с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     */
+    public IndexedCustomArrayList(int initialCapacity) {
+        this.elements = new DefaultCustomArrayList<>(initialCapacity);
+    }
+
+    /**
+     * Создает пустой индексированный список с указанной начальной емкостью и стратегией роста.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @param growthStrategy  стратегия расширения внутреннего массива.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     * @throws NullPointerException     если {@code growthStrategy} равна {@code null}.
+     */
+    public IndexedCustomArrayList(int initialCapacity, GrowthStrategy growthStrategy) {
+        this.elements = new DefaultCustomArrayList<>(initialCapacity, growthStrategy);
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка и регистрирует его в индексе.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(E element) {
+        if (!elements.add(element)) {
+            return false;
+        }
+        index.addOccurrence(element, elements.size() - 1);
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы из указанной коллекции в конец этого списка.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        int oldSize = elements.size();
+        return indexAppended(oldSize, elements.addAll(c));
+    }
+
+    /**
+     * Добавляет все элементы другого списка в конец этого списка.
+     *
+     * @param other список, элементы которого необходимо добавить
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если переданный список или один из его элементов равен {@code null}
+     */
+    @Override
+    public boolean addAllFrom(CustomArrayList<? extends E> other) {
+        int oldSize = elements.size();
+        return indexAppended(oldSize, elements.addAllFrom(other));
+    }
+
+    /**
+     * Добавляет в конец этого списка элементы массива из диапазона {@code [from, to)}.
+     *
+     * @param array массив-источник элементов
+     * @param from  индекс первого добавляемого элемента (включительно)
+     * @param to    индекс, следующий за последним добавляемым элементом (не включительно)
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если массив или один из элементов диапазона равен {@code null}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    @Override
+    public boolean addAll(E[] array, int from, int to) {
+        int oldSize = elements.size();
+        return indexAppended(oldSize, elements.addAll(array, from, to));
+    }
+
+    /**
+     * Вставляет все элементы из указанной коллекции, начиная с указанной позиции.
+     * Позиции всех элементов правее точки вставки меняются, поэтому индекс перестраивается
+     * целиком за O(n).
+     *
+     * @param position позиция, в которую вставляется первый элемент коллекции
+     * @param c        коллекция элементов, которые необходимо вставить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если коллекция {@code c} или один из её элементов равен {@code null}
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code position < 0 || position > size()})
+     */
+    @Override
+    public boolean addAll(int position, Collection<? extends E> c) {
+        int oldSize = elements.size();
+        if (position == oldSize) {
+            return indexAppended(oldSize, elements.addAll(position, c));
+        }
+        if (!elements.addAll(position, c)) {
+            return false;
+        }
+        index.clear();
+        indexAppended(0, true);
+        return true;
+    }
+
+    /**
+     * Регистрирует в индексе элементы с позициями {@code [from, size())}.
+     */
+    private boolean indexAppended(int from, boolean isModified) {
+        if (isModified) {
+            int size = elements.size();
+            for (int i = from; i < size; i++) {
+                index.addOccurrence(elements.get(i), i);
+            }
+        }
+        return isModified;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента. Позиция элемента берётся из индекса,
+     * после сдвига хвоста обновляются позиции первых вхождений сдвинутых элементов.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        int position = index.firstIndexOf(element);
+        if (position < 0) {
+            return false;
+        }
+        elements.removeAt(position);
+        int size = elements.size();
+        if (index.removeOccurrence(element) > 0) {
+            for (int i = position; i < size; i++) {
+                if (element.equals(elements.get(i))) {
+                    index.setFirstIndex(element, i);
+                    break;
+                }
+            }
+        }
+        for (int i = position; i < size; i++) {
+            index.moveFirstIndex(elements.get(i), i + 1, i);
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param position индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона.
+     */
+    @Override
+    public E get(int position) {
+        return elements.get(position);
+    }
+
+    /**
+     * Возвращает количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Проверяет, является ли этот список пустым.
+     *
+     * @return {@code true}, если список не содержит элементов; {@code false} в противном случае.
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Удаляет все элементы из этого списка и очищает индекс.
+     */
+    @Override
+    public void clear() {
+        elements.clear();
+        index.clear();
+    }
+
+    /**
+     * Проверяет наличие элемента одним поиском в хеш-индексе.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    @Override
+    public boolean contains(E element) {
+        return !Objects.isNull(element) && index.firstIndexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента одним поиском в хеш-индексе.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int indexOf(E element) {
+        return Objects.isNull(element) ? -1 : index.firstIndexOf(element);
+    }
+
+    /**
+     * Возвращает количество вхождений элемента в список.
+     *
+     * @param element искомый элемент.
+     * @return количество вхождений элемента.
+     */
+    public int occurrences(E element) {
+        return Objects.isNull(element) ? 0 : index.count(element);
+    }
+
+    /**
+     * Возвращает количество различных элементов в списке.
+     *
+     * @return количество различных элементов.
+     */
+    public int distinctCount() {
+        return index.distinct();
+    }
+
+    /**
+     * Возвращает итератор по элементам списка.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        elements.forEach(action);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return elements.spliterator();
+    }
+}
@@ -0,0 +1,608 @@
+package com.edu;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@code IntCustomArrayList} — специализированная реализация {@link CustomArrayList}
+ * для значений типа {@code int}, хранящая элементы в массиве {@code int[]} без упаковки.
+ * <p>
+ * Помимо методов интерфейса, работающих с {@link Integer}, класс предоставляет
+ * методы без упаковки: {@link #add(int)}, {@link #getInt(int)}, {@link #contains(int)},
+ * {@link #forEachInt(IntConsumer)} и {@link #toArray()}. Рост массива задаётся
+ * {@link GrowthStrategy}, итератор и сплитератор обнаруживают изменения во время обхода
+ * так же, как в {@link DefaultCustomArrayList}.
+ */
+public class IntCustomArrayList implements CustomArrayList<Integer> {
+    /**
+     * Начальная емкость массива по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Массив, в котором хранятся элементы списка.
+     */
+    private int[] elementData;
+
+    /**
+     * Количество элементов в списке.
+     */
+    private int size;
+
+    /**
+     * Счётчик структурных изменений списка.
+     */
+    private int modCount;
+
+    /**
+     * Стратегия расширения внутреннего массива.
+     */
+    private final GrowthStrategy growthStrategy;
+
+    /**
+     * Создает пустой список с начальной емкостью по умолчанию ({@value #DEFAULT_CAPACITY}).
+     */
+    public IntCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и удвоением массива при росте.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     */
+    public IntCustomArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthStrategy.doubling());
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и стратегией роста.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @param growthStrategy  стратегия расширения внутреннего массива.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     * @throws NullPointerException     если {@code growthStrategy} равна {@code null}.
+     */
+    public IntCustomArrayList(int initialCapacity, GrowthStrategy growthStrategy) {
+        if (initialCapacity < 0 || initialCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Недопустимая начальная емкость: " + initialCapacity);
+        }
+        this.growthStrategy = Objects.requireNonNull(growthStrategy, "growthStrategy");
+        this.elementData = new int[initialCapacity];
+    }
+
+    /**
+     * Создает список, содержащий значения указанного массива.
+     *
+     * @param values массив, значения которого будут помещены в новый список.
+     */
+    public IntCustomArrayList(int[] values) {
+        this.growthStrategy = GrowthStrategy.doubling();
+        this.elementData = Arrays.copyOf(values, values.length);
+        this.size = values.length;
+    }
+
+    /**
+     * Создает список из элементов обобщённого списка, распаковывая их в заранее
+     * выделенный массив.
+     *
+     * @param source исходный список.
+     * @return новый список с теми же значениями.
+     * @throws NullPointerException если {@code source} равен {@code null}.
+     */
+    public static IntCustomArrayList from(CustomArrayList<? extends Integer> source) {
+        Objects.requireNonNull(source);
+        IntCustomArrayList list = new IntCustomArrayList(source.size());
+        for (Integer value : source) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * Добавляет указанное значение в конец списка без упаковки.
+     *
+     * @param value значение, которое нужно добавить.
+     * @return всегда {@code true}.
+     */
+    public boolean add(int value) {
+        if (size == elementData.length) {
+            growElementData(size + 1);
+        }
+        elementData[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(Integer element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        return add(element.intValue());
+    }
+
+    /**
+     * Добавляет все элементы из указанной коллекции в конец этого списка,
+     * расширяя массив не более одного раза.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса IntCustomArrayList коллекция - null");
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (array.length == 0) {
+            return false;
+        }
+        ensureCapacityInternal(size + array.length);
+        for (Object element : array) {
+            elementData[size++] = ((Integer) element).intValue();
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Вставляет все элементы из указанной коллекции, начиная с указанной позиции, сдвигая
+     * хвост списка одним вызовом {@link System#arraycopy}.
+     *
+     * @param index позиция, в которую вставляется первый элемент коллекции
+     * @param c     коллекция элементов, которые необходимо вставить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если коллекция {@code c} или один из её элементов равен {@code null}
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index > size()})
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Integer> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса IntCustomArrayList коллекция - null");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (array.length == 0) {
+            return false;
+        }
+        ensureCapacityInternal(size + array.length);
+        System.arraycopy(elementData, index, elementData, index + array.length, size - index);
+        for (Object element : array) {
+            elementData[index++] = ((Integer) element).intValue();
+        }
+        size += array.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет в конец этого списка значения массива из диапазона {@code [from, to)}
+     * одним вызовом {@link System#arraycopy}.
+     *
+     * @param values массив-источник значений
+     * @param from   индекс первого добавляемого значения (включительно)
+     * @param to     индекс, следующий за последним добавляемым значением (не включительно)
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public boolean addAll(int[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+        int numNew = to - from;
+        if (numNew == 0) {
+            return false;
+        }
+        ensureCapacityInternal(size + numNew);
+        System.arraycopy(values, from, elementData, size, numNew);
+        size += numNew;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы другого списка в конец этого списка. Если источник —
+     * {@code IntCustomArrayList}, значения копируются напрямую из его массива.
+     *
+     * @param other список, элементы которого необходимо добавить
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если переданный список равен {@code null}
+     */
+    @Override
+    public boolean addAllFrom(CustomArrayList<? extends Integer> other) {
+        Objects.requireNonNull(other);
+        if (other instanceof IntCustomArrayList) {
+            IntCustomArrayList source = (IntCustomArrayList) other;
+            return addAll(source.elementData, 0, source.size);
+        }
+        ensureCapacityInternal(size + other.size());
+        return CustomArrayList.super.addAllFrom(other);
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(Integer element) {
+        return !Objects.isNull(element) && removeInt(element.intValue());
+    }
+
+    /**
+     * Удаляет первое вхождение указанного значения из этого списка без упаковки.
+     *
+     * @param value значение, которое нужно удалить из списка.
+     * @return {@code true}, если значение было найдено и удалено; {@code false} в противном случае.
+     */
+    public boolean removeInt(int value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        int numMoved = size - index - 1;
+        if (numMoved > 0) {
+            System.arraycopy(elementData, index + 1, elementData, index, numMoved);
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу в упакованном виде.
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Возвращает значение по указанному индексу без упаковки.
+     *
+     * @param index индекс значения для возврата.
+     * @return значение по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    public int getInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elementData[index];
+    }
+
+    /**
+     * Возвращает количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, является ли этот список пустым.
+     *
+     * @return {@code true}, если список не содержит элементов; {@code false} в противном случае.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка. Массив примитивов не удерживает ссылок,
+     * поэтому его ёмкость сохраняется.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Проверяет, содержит ли список указанный элемент.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    @Override
+    public boolean contains(Integer element) {
+        return !Objects.isNull(element) && contains(element.intValue());
+    }
+
+    /**
+     * Проверяет, содержит ли список указанное значение, без упаковки.
+     *
+     * @param value значение, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанное значение; {@code false} в противном случае.
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения указанного значения.
+     *
+     * @param value искомое значение.
+     * @return индекс первого вхождения или {@code -1}, если значение не найдено.
+     */
+    public int indexOf(int value) {
+        int[] elementData = this.elementData;
+        for (int i = 0; i < size; i++) {
+            if (elementData[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Выполняет действие для каждого значения списка без упаковки.
+     *
+     * @param action действие, выполняемое для каждого значения.
+     * @throws NullPointerException            если {@code action} равен {@code null}.
+     * @throws ConcurrentModificationException если список изменён во время обхода.
+     */
+    public void forEachInt(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        int[] elementData = this.elementData;
+        int size = this.size;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(elementData[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Возвращает копию значений списка в виде массива примитивов.
+     *
+     * @return новый массив длиной {@link #size()}.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elementData, size);
+    }
+
+    /**
+     * Преобразует этот список в {@link DefaultCustomArrayList}. Значения упаковываются
+     * в массив, который сразу становится внутренним массивом нового списка.
+     *
+     * @return новый обобщённый список с теми же значениями.
+     */
+    public DefaultCustomArrayList<Integer> toGenericList() {
+        Object[] boxed = new Object[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = elementData[i];
+        }
+        return DefaultCustomArrayList.adopt(boxed, size);
+    }
+
+    /**
+     * Гарантирует, что список вмещает не менее {@code minCapacity} элементов без
+     * дополнительных расширений массива.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elementData.length) {
+            growElementData(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает ёмкость внутреннего массива до текущего размера списка.
+     */
+    public void trimToSize() {
+        if (size < elementData.length) {
+            elementData = Arrays.copyOf(elementData, size);
+            modCount++;
+        }
+    }
+
+    /**
+     * Возвращает текущую ёмкость внутреннего массива.
+     *
+     * @return количество элементов, которое список вмещает без расширения массива.
+     */
+    public int capacity() {
+        return elementData.length;
+    }
+
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > elementData.length) {
+            growElementData(minCapacity);
+        }
+    }
+
+    /**
+     * Расширяет внутренний массив согласно стратегии роста.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     * @throws OutOfMemoryError если требуемая ёмкость превышает {@link GrowthStrategy#MAX_ARRAY_SIZE}.
+     */
+    private void growElementData(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер массива");
+        }
+        int newCapacity = growthStrategy.newCapacity(elementData.length, minCapacity);
+        if (newCapacity < minCapacity || newCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            newCapacity = minCapacity;
+        }
+        elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+
+    /**
+     * Возвращает итератор по элементам списка, читающий массив напрямую.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Возвращает сплитератор по значениям списка с характеристиками
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED}
+     * и {@link Spliterator#NONNULL}.
+     *
+     * @return сплитератор по значениям списка.
+     */
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new ListSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Возвращает последовательный поток значений без упаковки.
+     *
+     * @return поток значений списка.
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток значений без упаковки.
+     *
+     * @return параллельный поток значений списка.
+     */
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * Итератор, читающий значения напрямую из {@link #elementData}.
+     */
+    private class Itr implements PrimitiveIterator.OfInt {
+        private int cursor;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public int nextInt() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return elementData[i];
+        }
+    }
+
+    /**
+     * Сплитератор по диапазону индексов {@code [index, fence)} внутреннего массива.
+     */
+    private class ListSpliterator implements Spliterator.OfInt {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        ListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int i = index;
+            if (i >= fence) {
+                return false;
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            index = i + 1;
+            action.accept(elementData[i]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action);
+            int[] elementData = IntCustomArrayList.this.elementData;
+            int hi = fence;
+            int i = index;
+            // Массив мог быть заменён более коротким (например, trimToSize()) после создания сплитератора
+            if (modCount != expectedModCount || hi > elementData.length) {
+                throw new ConcurrentModificationException();
+            }
+            index = hi;
+            for (; i < hi; i++) {
+                action.accept(elementData[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
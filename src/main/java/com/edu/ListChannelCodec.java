@@ -0,0 +1,359 @@
+package com.edu;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@code ListChannelCodec} — потоковая двоичная сериализация {@link CustomArrayList} через
+ * {@link WritableByteChannel} и {@link ReadableByteChannel} с помощью {@link ElementCodec}.
+ * <p>
+ * <b>Формат потока</b> (little-endian): заголовок — сигнатура {@code CALC}, версия формата,
+ * ширина элемента, длина имени кодека, имя {@link ElementCodec#name() кодека} и количество
+ * элементов (8 байт); за ним следуют кадры, каждый из которых начинается с длины данных кадра
+ * в байтах (4 байта) и содержит целое число элементов фиксированной ширины.
+ * <p>
+ * Запись и чтение используют по одному прямому буферу, которые создаются при первом обращении
+ * и переиспользуются между вызовами, поэтому в установившемся режиме кодирование не выделяет
+ * памяти, кроме самих декодированных элементов. Размер кадра определяется ёмкостью буфера
+ * писателя; читатель при необходимости расширяет свой буфер до размера кадра. Читатель может
+ * забрать из канала байты следующего списка; они сохраняются в буфере, поэтому несколько
+ * списков, записанных в один канал подряд, читаются последовательными вызовами. {@link #read(ReadableByteChannel, Consumer)}
+ * передаёт элементы обработчику по мере прихода кадров, не дожидаясь конца потока,
+ * а {@link #read(ReadableByteChannel)} добавляет их в список, заранее выделенный
+ * по количеству из заголовка.
+ * <p>
+ * Поток может прийти из другого сервиса, поэтому размеры из него не принимаются на веру:
+ * список результата выделяется не более чем на {@value #MAX_PRESIZE} элементов и дальше растёт
+ * по мере чтения, а кадры длиннее максимального размера (по умолчанию 16 МиБ) отклоняются.
+ * <p>
+ * Каналы должны быть блокирующими. Класс не потокобезопасен; буферы освобождаются
+ * методом {@link #close()}.
+ *
+ * @param <E> тип элементов.
+ */
+public final class ListChannelCodec<E> implements AutoCloseable {
+    /**
+     * Сигнатура потока: {@code "CALC"} в little-endian.
+     */
+    private static final int MAGIC = 0x434C4143;
+
+    /**
+     * Версия формата потока.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Максимальная длина имени кодека в байтах.
+     */
+    private static final int MAX_NAME_LENGTH = 96;
+
+    /**
+     * Размер заголовка без имени кодека.
+     */
+    private static final int FIXED_HEADER_SIZE = 4 * Integer.BYTES + Long.BYTES;
+
+    /**
+     * Размер буфера по умолчанию.
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Максимальный размер кадра по умолчанию.
+     */
+    private static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Наибольшая начальная ёмкость списка, выделяемая по количеству из заголовка.
+     */
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    private final ElementCodec<E> codec;
+    private final int width;
+    private final byte[] name;
+    private final int bufferSize;
+    private final int maxFrameSize;
+
+    /**
+     * Прямой буфер записи; {@code null} до первой записи.
+     */
+    private ByteBuffer writeBuffer;
+
+    /**
+     * Прямой буфер чтения в режиме чтения; {@code null} до первого чтения.
+     */
+    private ByteBuffer readBuffer;
+
+    /**
+     * Канал, из которого прочитаны оставшиеся в {@link #readBuffer} байты.
+     */
+    private ReadableByteChannel readSource;
+
+    private boolean closed;
+
+    /**
+     * Создает кодек с буфером по умолчанию (64 КиБ).
+     *
+     * @param codec кодек элементов.
+     * @throws NullPointerException     если {@code codec} равен {@code null}.
+     * @throws IllegalArgumentException если имя кодека длиннее 96 байт.
+     */
+    public ListChannelCodec(ElementCodec<E> codec) {
+        this(codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Создает кодек с буфером указанного размера. Размер буфера ограничивает размер кадра при записи.
+     *
+     * @param codec      кодек элементов.
+     * @param bufferSize размер прямого буфера в байтах.
+     * @throws NullPointerException     если {@code codec} равен {@code null}.
+     * @throws IllegalArgumentException если имя кодека длиннее 96 байт или буфер не вмещает
+     *                                  заголовок либо кадр хотя бы из одного элемента.
+     */
+    public ListChannelCodec(ElementCodec<E> codec, int bufferSize) {
+        this(codec, bufferSize, Math.max(bufferSize, DEFAULT_MAX_FRAME_SIZE));
+    }
+
+    /**
+     * Создает кодек с буфером указанного размера и ограничением на размер читаемого кадра.
+     *
+     * @param codec        кодек элементов.
+     * @param bufferSize   размер прямого буфера в байтах.
+     * @param maxFrameSize наибольшая длина данных кадра в байтах, которую примет читатель.
+     * @throws NullPointerException     если {@code codec} равен {@code null}.
+     * @throws IllegalArgumentException если имя кодека длиннее 96 байт, буфер не вмещает
+     *                                  заголовок либо кадр хотя бы из одного элемента или
+     *                                  {@code maxFrameSize} меньше ширины элемента.
+     */
+    public ListChannelCodec(ElementCodec<E> codec, int bufferSize, int maxFrameSize) {
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.width = codec.width();
+        this.name = codec.name().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Имя кодека длиннее " + MAX_NAME_LENGTH + " байт: " + codec.name());
+        }
+        if (bufferSize < FIXED_HEADER_SIZE + MAX_NAME_LENGTH || bufferSize < Integer.BYTES + width) {
+            throw new IllegalArgumentException("Недопустимый размер буфера: " + bufferSize);
+        }
+        if (maxFrameSize < width) {
+            throw new IllegalArgumentException("Недопустимый максимальный размер кадра: " + maxFrameSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * Записывает список в канал: заголовок и кадры, каждый из которых заполняет буфер.
+     *
+     * @param list    записываемый список.
+     * @param channel канал назначения.
+     * @throws IOException                     если запись в канал не удалась.
+     * @throws ConcurrentModificationException если размер списка изменился во время записи.
+     */
+    public void write(CustomArrayList<? extends E> list, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(list, "list");
+        Objects.requireNonNull(channel, "channel");
+        checkOpen();
+        if (writeBuffer == null) {
+            writeBuffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        ByteBuffer out = writeBuffer;
+        int expected = list.size();
+        out.clear();
+        out.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(name.length).put(name).putLong(expected);
+        int frameStart = -1;
+        int written = 0;
+        for (E element : list) {
+            if (frameStart < 0) {
+                if (out.remaining() < Integer.BYTES + width) {
+                    flush(out, channel);
+                }
+                frameStart = out.position();
+                out.position(frameStart + Integer.BYTES);
+            }
+            codec.write(out, out.position(), element);
+            out.position(out.position() + width);
+            written++;
+            if (out.remaining() < width) {
+                out.putInt(frameStart, out.position() - frameStart - Integer.BYTES);
+                flush(out, channel);
+                frameStart = -1;
+            }
+        }
+        if (frameStart >= 0) {
+            out.putInt(frameStart, out.position() - frameStart - Integer.BYTES);
+        }
+        flush(out, channel);
+        if (written != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Читает список из канала в новый {@link DefaultCustomArrayList}, выделенный под количество
+     * элементов из заголовка, но не более чем под {@value #MAX_PRESIZE} элементов.
+     *
+     * @param channel канал-источник.
+     * @return прочитанный список.
+     * @throws IOException  если чтение не удалось, формат потока не совпадает с ожидаемым
+     *                      или кадр длиннее максимального.
+     * @throws EOFException если поток закончился раньше последнего элемента.
+     */
+    public CustomArrayList<E> read(ReadableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "channel");
+        prepareRead(channel);
+        int count = readHeader(channel);
+        DefaultCustomArrayList<E> result = new DefaultCustomArrayList<>(Math.min(count, MAX_PRESIZE));
+        readFrames(channel, count, result::add);
+        return result;
+    }
+
+    /**
+     * Читает список из канала, передавая элементы обработчику по мере прихода кадров:
+     * элементы кадра обрабатываются сразу после того, как кадр получен целиком.
+     *
+     * @param channel канал-источник.
+     * @param action  обработчик элементов.
+     * @return количество прочитанных элементов.
+     * @throws IOException  если чтение не удалось, формат потока не совпадает с ожидаемым
+     *                      или кадр длиннее максимального.
+     * @throws EOFException если поток закончился раньше последнего элемента.
+     */
+    public int read(ReadableByteChannel channel, Consumer<? super E> action) throws IOException {
+        Objects.requireNonNull(channel, "channel");
+        Objects.requireNonNull(action, "action");
+        prepareRead(channel);
+        int count = readHeader(channel);
+        readFrames(channel, count, action);
+        return count;
+    }
+
+    /**
+     * Освобождает прямые буферы. После закрытия кодек использовать нельзя.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        DirectBuffers.free(writeBuffer);
+        DirectBuffers.free(readBuffer);
+        writeBuffer = null;
+        readBuffer = null;
+        readSource = null;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Кодек закрыт");
+        }
+    }
+
+    /**
+     * Готовит буфер чтения: непрочитанные байты сохраняются только для того же канала.
+     */
+    private void prepareRead(ReadableByteChannel channel) {
+        checkOpen();
+        if (readBuffer == null) {
+            readBuffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (channel != readSource) {
+            readBuffer.clear().flip();
+            readSource = channel;
+        }
+    }
+
+    private static void flush(ByteBuffer out, WritableByteChannel channel) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    private int readHeader(ReadableByteChannel channel) throws IOException {
+        ByteBuffer in = require(channel, FIXED_HEADER_SIZE - Long.BYTES);
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Поток не является сериализованным CustomArrayList");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IOException("Неподдерживаемая версия формата: " + version);
+        }
+        int streamWidth = in.getInt();
+        if (streamWidth != width) {
+            throw new IOException("Ширина элемента в потоке " + streamWidth + " не совпадает с кодеком: " + width);
+        }
+        int nameLength = in.getInt();
+        if (nameLength < 0 || nameLength > MAX_NAME_LENGTH) {
+            throw new IOException("Поток повреждён: длина имени кодека " + nameLength);
+        }
+        in = require(channel, nameLength + Long.BYTES);
+        byte[] streamName = new byte[nameLength];
+        in.get(streamName);
+        if (!Arrays.equals(streamName, name)) {
+            throw new IOException("Кодек потока '" + new String(streamName, StandardCharsets.UTF_8)
+                    + "' не совпадает с '" + codec.name() + "'");
+        }
+        long count = in.getLong();
+        if (count < 0 || count > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new IOException("Поток повреждён: количество элементов " + count);
+        }
+        return (int) count;
+    }
+
+    private void readFrames(ReadableByteChannel channel, int count, Consumer<? super E> action) throws IOException {
+        int remaining = count;
+        while (remaining > 0) {
+            ByteBuffer in = require(channel, Integer.BYTES);
+            int length = in.getInt();
+            if (length <= 0 || length % width != 0 || length / width > remaining) {
+                throw new IOException("Поток повреждён: длина кадра " + length);
+            }
+            if (length > maxFrameSize) {
+                throw new IOException("Длина кадра " + length + " превышает максимальную: " + maxFrameSize);
+            }
+            in = require(channel, length);
+            int position = in.position();
+            int end = position + length;
+            for (; position < end; position += width) {
+                action.accept(codec.read(in, position));
+            }
+            in.position(end);
+            remaining -= length / width;
+        }
+    }
+
+    /**
+     * Гарантирует, что в буфере (в режиме чтения) доступно не менее {@code bytes} байт,
+     * дочитывая канал столько, сколько он отдаст за вызов, и расширяя буфер при необходимости.
+     */
+    private ByteBuffer require(ReadableByteChannel channel, int bytes) throws IOException {
+        ByteBuffer in = readBuffer;
+        if (in.remaining() >= bytes) {
+            return in;
+        }
+        if (bytes > in.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            grown.put(in);
+            DirectBuffers.free(in);
+            readBuffer = in = grown;
+        } else {
+            in.compact();
+        }
+        while (in.position() < bytes) {
+            if (channel.read(in) < 0) {
+                throw new EOFException("Поток закончился раньше последнего элемента");
+            }
+        }
+        in.flip();
+        return in;
+    }
+}
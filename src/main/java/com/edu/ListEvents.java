@@ -0,0 +1,123 @@
+package com.edu;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * События JFR для {@link DefaultCustomArrayList}.
+ * <p>
+ * Объект события создаётся только после проверки {@link EventType#isEnabled()} у типа события,
+ * закэшированного в статическом поле; пока запись JFR не ведётся или событие отключено
+ * в её настройках, регистрация сводится к этой проверке и не выделяет памяти.
+ */
+final class ListEvents {
+    /**
+     * Минимальное количество элементов, при котором копирование регистрируется событием {@link CopyEvent}.
+     */
+    static final int LARGE_COPY_THRESHOLD = 1 << 16;
+
+    /**
+     * Оценка размера ссылки в байтах (со сжатыми указателями).
+     */
+    private static final int REFERENCE_SIZE = 4;
+
+    private static final EventType GROWTH_TYPE = EventType.getEventType(GrowthEvent.class);
+    private static final EventType COPY_TYPE = EventType.getEventType(CopyEvent.class);
+
+    private ListEvents() {
+    }
+
+    /**
+     * Расширение внутреннего массива; длительность события — время копирования.
+     */
+    @Name("com.edu.ListGrowth")
+    @Label("CustomArrayList Growth")
+    @Category("CustomArrayList")
+    @Description("Расширение внутреннего массива DefaultCustomArrayList")
+    static final class GrowthEvent extends Event {
+        @Label("Old Capacity")
+        int oldCapacity;
+
+        @Label("New Capacity")
+        int newCapacity;
+
+        @Label("Size")
+        int size;
+    }
+
+    /**
+     * Копирование или сдвиг не менее {@link #LARGE_COPY_THRESHOLD} элементов.
+     */
+    @Name("com.edu.ListLargeCopy")
+    @Label("CustomArrayList Large Copy")
+    @Category("CustomArrayList")
+    @Description("Копирование или сдвиг большого числа элементов DefaultCustomArrayList")
+    static final class CopyEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Elements")
+        int elements;
+
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+    }
+
+    /**
+     * Регистрирует копирование {@code elements} элементов, если оно достаточно велико
+     * и событие включено.
+     *
+     * @param operation название операции.
+     * @param elements  количество скопированных элементов.
+     */
+    static void largeCopy(String operation, int elements) {
+        if (elements < LARGE_COPY_THRESHOLD) {
+            return;
+        }
+        if (!COPY_TYPE.isEnabled()) {
+            return;
+        }
+        CopyEvent event = new CopyEvent();
+        event.operation = operation;
+        event.elements = elements;
+        event.bytes = (long) elements * REFERENCE_SIZE;
+        event.commit();
+    }
+
+    /**
+     * Начинает событие расширения массива, если оно включено.
+     *
+     * @return начатое событие или {@code null}, если событие отключено.
+     */
+    static GrowthEvent beginGrowth() {
+        if (!GROWTH_TYPE.isEnabled()) {
+            return null;
+        }
+        GrowthEvent event = new GrowthEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Завершает событие, начатое {@link #beginGrowth()}.
+     *
+     * @param event       событие или {@code null}.
+     * @param oldCapacity ёмкость до расширения.
+     * @param newCapacity ёмкость после расширения.
+     * @param size        размер списка.
+     */
+    static void endGrowth(GrowthEvent event, int oldCapacity, int newCapacity, int size) {
+        if (event != null && event.shouldCommit()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.size = size;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.edu;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ListStats} — счётчики внутренней работы {@link DefaultCustomArrayList}: расширений массива,
+ * сдвигов и копирований элементов и длин линейных поисков.
+ * <p>
+ * Статистика подключается к отдельному списку через {@link DefaultCustomArrayList#setStats(ListStats)}
+ * или ко всем спискам сразу через {@link DefaultCustomArrayList#setGlobalStats(ListStats)}.
+ * Пока статистика не подключена, список лишь проверяет ссылку на {@code null}. Счётчики
+ * потокобезопасны, поэтому один объект можно разделять между списками разных потоков.
+ * <p>
+ * Длины поисков ({@code contains}, {@code remove(E)}) собираются в гистограмму
+ * с корзинами-степенями двойки: корзина {@code k} считает поиски, просмотревшие
+ * от 2<sup>k-1</sup> + 1 до 2<sup>k</sup> элементов (корзина 0 — не более одного элемента).
+ */
+public final class ListStats {
+    /**
+     * Количество корзин гистограммы длин поиска.
+     */
+    public static final int HISTOGRAM_BUCKETS = 32;
+
+    private final LongAdder growCount = new LongAdder();
+    private final LongAdder elementsCopiedOnGrow = new LongAdder();
+    private final LongAdder shiftCount = new LongAdder();
+    private final LongAdder elementsShifted = new LongAdder();
+    private final LongAdder copyOnWriteCount = new LongAdder();
+    private final LongAdder elementsCopiedOnWrite = new LongAdder();
+    private final LongAdder scanCount = new LongAdder();
+    private final LongAdder elementsScanned = new LongAdder();
+    private final AtomicLongArray scanHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+    /**
+     * Регистрирует расширение внутреннего массива.
+     *
+     * @param copiedElements количество элементов, скопированных в новый массив.
+     */
+    void recordGrowth(int copiedElements) {
+        growCount.increment();
+        elementsCopiedOnGrow.add(copiedElements);
+    }
+
+    /**
+     * Регистрирует сдвиг элементов внутри массива при вставке или удалении.
+     *
+     * @param movedElements количество сдвинутых элементов.
+     */
+    void recordShift(int movedElements) {
+        if (movedElements > 0) {
+            shiftCount.increment();
+            elementsShifted.add(movedElements);
+        }
+    }
+
+    /**
+     * Регистрирует копирование массива, разделяемого со снимком, перед записью.
+     *
+     * @param copiedElements длина скопированного массива.
+     */
+    void recordCopyOnWrite(int copiedElements) {
+        copyOnWriteCount.increment();
+        elementsCopiedOnWrite.add(copiedElements);
+    }
+
+    /**
+     * Регистрирует линейный поиск.
+     *
+     * @param scannedElements количество просмотренных элементов.
+     */
+    void recordScan(int scannedElements) {
+        scanCount.increment();
+        elementsScanned.add(scannedElements);
+        scanHistogram.incrementAndGet(bucketOf(scannedElements));
+    }
+
+    /**
+     * Возвращает номер корзины гистограммы для длины поиска.
+     *
+     * @param scannedElements количество просмотренных элементов.
+     * @return номер корзины: наименьшее {@code k}, при котором {@code scannedElements <= 2^k}.
+     */
+    static int bucketOf(int scannedElements) {
+        return scannedElements <= 1 ? 0 : Math.min(HISTOGRAM_BUCKETS - 1, 32 - Integer.numberOfLeadingZeros(scannedElements - 1));
+    }
+
+    /**
+     * @return количество расширений внутреннего массива.
+     */
+    public long growCount() {
+        return growCount.sum();
+    }
+
+    /**
+     * @return суммарное количество элементов, скопированных при расширениях.
+     */
+    public long elementsCopiedOnGrow() {
+        return elementsCopiedOnGrow.sum();
+    }
+
+    /**
+     * @return количество сдвигов хвоста массива при вставках и удалениях.
+     */
+    public long shiftCount() {
+        return shiftCount.sum();
+    }
+
+    /**
+     * @return суммарное количество элементов, сдвинутых при вставках и удалениях.
+     */
+    public long elementsShifted() {
+        return elementsShifted.sum();
+    }
+
+    /**
+     * @return количество копирований массива, разделяемого со снимком.
+     */
+    public long copyOnWriteCount() {
+        return copyOnWriteCount.sum();
+    }
+
+    /**
+     * @return суммарное количество элементов, скопированных при копировании при записи.
+     */
+    public long elementsCopiedOnWrite() {
+        return elementsCopiedOnWrite.sum();
+    }
+
+    /**
+     * @return количество линейных поисков.
+     */
+    public long scanCount() {
+        return scanCount.sum();
+    }
+
+    /**
+     * @return суммарное количество элементов, просмотренных линейными поисками.
+     */
+    public long elementsScanned() {
+        return elementsScanned.sum();
+    }
+
+    /**
+     * Возвращает копию гистограммы длин поиска.
+     *
+     * @return массив из {@value #HISTOGRAM_BUCKETS} счётчиков; элемент {@code k} — количество
+     * поисков длиной от 2<sup>k-1</sup> + 1 до 2<sup>k</sup> элементов.
+     */
+    public long[] scanHistogram() {
+        long[] result = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            result[i] = scanHistogram.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Обнуляет все счётчики. Значения, записываемые одновременно со сбросом, могут быть потеряны.
+     */
+    public void reset() {
+        growCount.reset();
+        elementsCopiedOnGrow.reset();
+        shiftCount.reset();
+        elementsShifted.reset();
+        copyOnWriteCount.reset();
+        elementsCopiedOnWrite.reset();
+        scanCount.reset();
+        elementsScanned.reset();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            scanHistogram.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ListStats{growCount=" + growCount() + ", elementsCopiedOnGrow=" + elementsCopiedOnGrow()
+                + ", shiftCount=" + shiftCount() + ", elementsShifted=" + elementsShifted()
+                + ", copyOnWriteCount=" + copyOnWriteCount() + ", elementsCopiedOnWrite=" + elementsCopiedOnWrite()
+                + ", scanCount=" + scanCount() + ", elementsScanned=" + elementsScanned() + '}';
+    }
+}
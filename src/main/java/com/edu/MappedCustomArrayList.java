@@ -0,0 +1,754 @@
+package com.edu;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@code MappedCustomArrayList} — реализация {@link CustomArrayList}, хранящая элементы
+ * в файле, отображённом в память через {@link FileChannel#map}.
+ * <p>
+ * <b>Формат файла</b> (little-endian): заголовок из {@value #HEADER_SIZE} байт —
+ * сигнатура {@code CALS}, версия формата, ширина элемента, длина имени кодека, размер списка,
+ * контрольная сумма FNV-1a (64 бита) по данным и имя {@link ElementCodec#name() кодека};
+ * за ним следуют элементы фиксированной ширины подряд.
+ * <p>
+ * <b>Чтение.</b> Открытие файла читает только заголовок. Области файла отображаются при первом
+ * обращении к ним, а страницы подгружаются операционной системой по требованию, поэтому
+ * время запуска определяется не разбором данных, а числом обращений к страницам.
+ * {@link #get(int)} и итерация декодируют элементы прямо из отображённой памяти.
+ * Полная проверка контрольной суммы выполняется отдельно методом {@link #verify()}.
+ * <p>
+ * <b>Добавление.</b> Новые элементы записываются в хвост за зафиксированным размером,
+ * а контрольная сумма обновляется инкрементально. Запись фиксируется методом {@link #flush()}:
+ * сначала на диск сбрасываются данные, затем заголовок с новым размером. Если процесс
+ * завершится до фиксации, при следующем открытии список будет иметь последний
+ * зафиксированный размер.
+ * <p>
+ * <b>Удаление.</b> {@link #remove(Object)} и добавление после {@link #clear()} перезаписывают
+ * зафиксированные данные на месте. Перед первой такой перезаписью исходные байты диапазона
+ * сохраняются в журнал отката — файл {@code <имя>.undo} рядом с данными — и сбрасываются на диск.
+ * Журнал помечен размером и контрольной суммой последней фиксации; при открытии журнал с
+ * совпадающей пометкой откатывается, поэтому после аварийного завершения список снова имеет
+ * последнее зафиксированное содержимое. {@link #flush()} удаляет журнал после записи заголовка.
+ * <p>
+ * Память отображений освобождается методом {@link #close()}, который также фиксирует изменения
+ * и обрезает файл до точного размера данных. Класс не потокобезопасен.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class MappedCustomArrayList<E> implements CustomArrayList<E>, AutoCloseable {
+    /**
+     * Размер заголовка файла в байтах.
+     */
+    static final int HEADER_SIZE = 128;
+
+    /**
+     * Сигнатура файла: {@code "CALS"} в little-endian.
+     */
+    private static final int MAGIC = 0x534C4143;
+
+    /**
+     * Версия формата файла.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Смещение первого байта имени кодека в заголовке.
+     */
+    private static final int NAME_OFFSET = 32;
+
+    /**
+     * Максимальная длина имени кодека в байтах.
+     */
+    private static final int MAX_NAME_LENGTH = HEADER_SIZE - NAME_OFFSET;
+
+    /**
+     * Количество элементов в одной отображаемой области по умолчанию.
+     */
+    private static final int DEFAULT_ELEMENTS_PER_REGION = 1 << 20;
+
+    /**
+     * Сигнатура журнала отката: {@code "CALU"} в little-endian.
+     */
+    private static final int UNDO_MAGIC = 0x554C4143;
+
+    /**
+     * Размер заголовка журнала отката: сигнатура, размер и контрольная сумма фиксации.
+     */
+    private static final int UNDO_HEADER_SIZE = Integer.BYTES + 2 * Long.BYTES;
+
+    /**
+     * Размер заголовка записи журнала: индекс первого элемента и количество элементов.
+     */
+    private static final int UNDO_RECORD_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final FileChannel channel;
+    private final Path undoPath;
+    private final ElementCodec<E> codec;
+    private final int width;
+    private final int regionShift;
+    private final int regionMask;
+
+    /**
+     * Отображение заголовка файла.
+     */
+    private final MappedByteBuffer header;
+
+    /**
+     * Отображённые области данных; {@code null} — область ещё не отображена.
+     */
+    private MappedByteBuffer[] regions = new MappedByteBuffer[4];
+
+    /**
+     * Количество элементов в списке, включая ещё не зафиксированные.
+     */
+    private int size;
+
+    /**
+     * Размер, записанный в заголовке при последней фиксации.
+     */
+    private int committedSize;
+
+    /**
+     * Контрольная сумма FNV-1a данных {@code [0, size)}; актуальна, если {@link #checksumValid}.
+     */
+    private long checksum;
+
+    /**
+     * Признак того, что {@link #checksum} соответствует данным. Удаление сбрасывает его,
+     * и сумма пересчитывается при фиксации.
+     */
+    private boolean checksumValid;
+
+    /**
+     * Журнал отката текущей фиксации; {@code null}, пока зафиксированные данные не перезаписывались.
+     */
+    private FileChannel undo;
+
+    /**
+     * Наименьший зафиксированный индекс, исходные байты которого уже сохранены в журнале:
+     * сохранён диапазон {@code [undoFrom, committedSize)}.
+     */
+    private int undoFrom;
+
+    private int modCount;
+    private boolean closed;
+
+    /**
+     * Буфер для кодирования искомого элемента.
+     */
+    private final ByteBuffer probe;
+
+    private MappedCustomArrayList(FileChannel channel, Path undoPath, ElementCodec<E> codec, int elementsPerRegion,
+                                  boolean truncate) throws IOException {
+        this.channel = channel;
+        this.undoPath = undoPath;
+        this.codec = codec;
+        this.width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("Ширина элемента должна быть положительной: " + width);
+        }
+        if (elementsPerRegion <= 0 || Integer.bitCount(elementsPerRegion) != 1
+                || (long) elementsPerRegion * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Недопустимый размер области: " + elementsPerRegion);
+        }
+        this.regionShift = Integer.numberOfTrailingZeros(elementsPerRegion);
+        this.regionMask = elementsPerRegion - 1;
+        this.probe = ByteBuffer.allocate(width).order(ByteOrder.LITTLE_ENDIAN);
+
+        byte[] name = codec.name().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Имя кодека длиннее " + MAX_NAME_LENGTH + " байт: " + codec.name());
+        }
+        boolean isNew = truncate || channel.size() == 0;
+        if (truncate) {
+            channel.truncate(0);
+        }
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (isNew) {
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putInt(8, width);
+            header.putInt(12, name.length);
+            for (int i = 0; i < name.length; i++) {
+                header.put(NAME_OFFSET + i, name[i]);
+            }
+            writeHeaderState(0, FNV_OFFSET_BASIS);
+            header.force();
+            Files.deleteIfExists(undoPath);
+        } else {
+            readHeader(name);
+            rollBack();
+        }
+        undoFrom = committedSize;
+    }
+
+    /**
+     * Открывает список из файла, созданного ранее, или создаёт пустой список, если файла нет
+     * или он пуст. Читается только заголовок файла.
+     *
+     * @param path  путь к файлу.
+     * @param codec кодек элементов; должен совпадать по имени и ширине с кодеком файла.
+     * @param <E>   тип элементов.
+     * @return открытый список.
+     * @throws IOException если файл не удаётся открыть или его формат не совпадает с ожидаемым.
+     */
+    public static <E> MappedCustomArrayList<E> open(Path path, ElementCodec<E> codec) throws IOException {
+        return open(path, codec, DEFAULT_ELEMENTS_PER_REGION, false);
+    }
+
+    /**
+     * Создаёт новый пустой список в указанном файле, удаляя его прежнее содержимое.
+     *
+     * @param path  путь к файлу.
+     * @param codec кодек элементов.
+     * @param <E>   тип элементов.
+     * @return открытый пустой список.
+     * @throws IOException если файл не удаётся создать.
+     */
+    public static <E> MappedCustomArrayList<E> create(Path path, ElementCodec<E> codec) throws IOException {
+        return open(path, codec, DEFAULT_ELEMENTS_PER_REGION, true);
+    }
+
+    /**
+     * Открывает список с указанным размером отображаемой области.
+     *
+     * @param path              путь к файлу.
+     * @param codec             кодек элементов.
+     * @param elementsPerRegion количество элементов в одной области (степень двойки).
+     * @param truncate          {@code true}, чтобы удалить прежнее содержимое файла.
+     * @param <E>               тип элементов.
+     * @return открытый список.
+     * @throws IOException если файл не удаётся открыть или его формат не совпадает с ожидаемым.
+     */
+    public static <E> MappedCustomArrayList<E> open(Path path, ElementCodec<E> codec, int elementsPerRegion,
+                                                    boolean truncate) throws IOException {
+        Objects.requireNonNull(codec, "codec");
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            Path undoPath = path.resolveSibling(path.getFileName() + ".undo");
+            return new MappedCustomArrayList<>(channel, undoPath, codec, elementsPerRegion, truncate);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Сохраняет список в файл в компактном двоичном формате.
+     *
+     * @param list  сохраняемый список.
+     * @param codec кодек элементов.
+     * @param path  путь к файлу; существующий файл перезаписывается.
+     * @param <E>   тип элементов.
+     * @throws IOException если запись не удалась.
+     */
+    public static <E> void save(CustomArrayList<? extends E> list, ElementCodec<E> codec, Path path) throws IOException {
+        Objects.requireNonNull(list, "list");
+        try (MappedCustomArrayList<E> target = create(path, codec)) {
+            target.ensureCapacity(list.size());
+            for (E element : list) {
+                target.add(element);
+            }
+        }
+    }
+
+    private void readHeader(byte[] expectedName) throws IOException {
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Файл не является сохранённым CustomArrayList");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Неподдерживаемая версия формата: " + header.getInt(4));
+        }
+        if (header.getInt(8) != width) {
+            throw new IOException("Ширина элемента в файле " + header.getInt(8) + " не совпадает с кодеком: " + width);
+        }
+        int nameLength = header.getInt(12);
+        byte[] name = new byte[Math.max(0, Math.min(nameLength, MAX_NAME_LENGTH))];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = header.get(NAME_OFFSET + i);
+        }
+        if (!Arrays.equals(name, expectedName)) {
+            throw new IOException("Кодек файла '" + new String(name, StandardCharsets.UTF_8)
+                    + "' не совпадает с '" + codec.name() + "'");
+        }
+        long storedSize = header.getLong(16);
+        if (storedSize < 0 || storedSize > Integer.MAX_VALUE
+                || channel.size() < HEADER_SIZE + storedSize * width) {
+            throw new IOException("Файл повреждён: размер " + storedSize + " не соответствует длине файла");
+        }
+        size = (int) storedSize;
+        committedSize = size;
+        checksum = header.getLong(24);
+        checksumValid = true;
+    }
+
+    private void writeHeaderState(int size, long checksum) {
+        header.putLong(16, size);
+        header.putLong(24, checksum);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("MappedCustomArrayList закрыт");
+        }
+    }
+
+    /**
+     * Возвращает отображение области, содержащей элемент с указанным индексом, для чтения.
+     * Незаписанная область отображается только в пределах текущей длины файла,
+     * чтобы чтение не увеличивало файл.
+     */
+    private MappedByteBuffer region(int index) {
+        return region(index, false);
+    }
+
+    /**
+     * Возвращает отображение области, содержащей элемент с указанным индексом. Для записи
+     * область отображается целиком (файл при этом растёт), заменяя прежнее частичное отображение.
+     */
+    private MappedByteBuffer region(int index, boolean write) {
+        int r = index >>> regionShift;
+        if (r >= regions.length) {
+            regions = Arrays.copyOf(regions, Math.max(r + 1, regions.length * 2));
+        }
+        MappedByteBuffer region = regions[r];
+        long regionBytes = (long) (regionMask + 1) * width;
+        if (region == null || (write && region.capacity() < regionBytes)) {
+            long start = HEADER_SIZE + r * regionBytes;
+            try {
+                long length = write ? regionBytes : Math.min(regionBytes, channel.size() - start);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, start, length);
+                mapped.order(ByteOrder.LITTLE_ENDIAN);
+                DirectBuffers.free(region);
+                region = mapped;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            regions[r] = region;
+        }
+        return region;
+    }
+
+    /**
+     * Сохраняет в журнал отката исходные байты зафиксированных элементов, начиная с {@code index},
+     * если они ещё не сохранены. Вызывается перед перезаписью элемента с этим индексом.
+     */
+    private void beforeOverwrite(int index) {
+        if (index >= undoFrom) {
+            return;
+        }
+        try {
+            if (undo == null) {
+                undo = FileChannel.open(undoPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE);
+                ByteBuffer stamp = ByteBuffer.allocate(UNDO_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                stamp.putInt(UNDO_MAGIC).putLong(committedSize).putLong(header.getLong(24)).flip();
+                writeFully(undo, stamp);
+            }
+            int count = undoFrom - index;
+            ByteBuffer chunk = ByteBuffer.allocate(Math.max(UNDO_RECORD_HEADER_SIZE, Math.min(1 << 16, count * width)))
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            chunk.putLong(index).putInt(count);
+            for (int i = index; i < undoFrom; i++) {
+                if (chunk.remaining() < width) {
+                    chunk.flip();
+                    writeFully(undo, chunk);
+                    chunk.clear();
+                }
+                MappedByteBuffer region = region(i);
+                int offset = offset(i);
+                for (int b = 0; b < width; b++) {
+                    chunk.put(region.get(offset + b));
+                }
+            }
+            chunk.flip();
+            writeFully(undo, chunk);
+            undo.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        undoFrom = index;
+    }
+
+    private static void writeFully(FileChannel target, ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            target.write(source);
+        }
+    }
+
+    /**
+     * Откатывает перезаписи зафиксированных данных по журналу, если он относится к последней
+     * фиксации, и удаляет журнал. Неполная последняя запись пропускается: соответствующая
+     * перезапись не начиналась, так как журнал сбрасывается на диск до неё.
+     */
+    private void rollBack() throws IOException {
+        if (!Files.exists(undoPath)) {
+            return;
+        }
+        try (FileChannel journal = FileChannel.open(undoPath, StandardOpenOption.READ)) {
+            ByteBuffer stamp = ByteBuffer.allocate(UNDO_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            journal.read(stamp, 0);
+            stamp.flip();
+            if (stamp.remaining() == UNDO_HEADER_SIZE && stamp.getInt() == UNDO_MAGIC
+                    && stamp.getLong() == committedSize && stamp.getLong() == checksum) {
+                long position = UNDO_HEADER_SIZE;
+                ByteBuffer recordHeader = ByteBuffer.allocate(UNDO_RECORD_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                while (true) {
+                    recordHeader.clear();
+                    journal.read(recordHeader, position);
+                    if (recordHeader.hasRemaining()) {
+                        break;
+                    }
+                    recordHeader.flip();
+                    long from = recordHeader.getLong();
+                    int count = recordHeader.getInt();
+                    long bytes = (long) count * width;
+                    if (from < 0 || count <= 0 || from + count > committedSize
+                            || journal.size() < position + UNDO_RECORD_HEADER_SIZE + bytes) {
+                        break;
+                    }
+                    ByteBuffer data = ByteBuffer.allocate((int) bytes);
+                    journal.read(data, position + UNDO_RECORD_HEADER_SIZE);
+                    data.flip();
+                    for (int i = (int) from; i < from + count; i++) {
+                        MappedByteBuffer region = region(i, true);
+                        int offset = offset(i);
+                        for (int b = 0; b < width; b++) {
+                            region.put(offset + b, data.get());
+                        }
+                    }
+                    position += UNDO_RECORD_HEADER_SIZE + bytes;
+                }
+                for (MappedByteBuffer region : regions) {
+                    if (region != null) {
+                        region.force();
+                    }
+                }
+            }
+        }
+        Files.delete(undoPath);
+    }
+
+    private int offset(int index) {
+        return (index & regionMask) * width;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер");
+        }
+        if (minCapacity > 0) {
+            region(minCapacity - 1, true);
+        }
+    }
+
+    /**
+     * Добавляет элемент в хвост файла. Изменение становится постоянным после {@link #flush()}.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     * @throws UncheckedIOException если не удалось отобразить новую область файла.
+     */
+    @Override
+    public boolean add(E element) {
+        ensureOpen();
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        if (size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер");
+        }
+        beforeOverwrite(size);
+        MappedByteBuffer region = region(size, true);
+        int offset = offset(size);
+        codec.write(region, offset, element);
+        if (checksumValid) {
+            checksum = fnv(checksum, region, offset, width);
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы коллекции в хвост файла.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        ensureOpen();
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса MappedCustomArrayList коллекция - null");
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        ensureCapacity(size + array.length);
+        for (Object element : array) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            add(e);
+        }
+        return array.length > 0;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента, сдвигая байты хвоста в отображённой памяти.
+     * Зафиксированные байты предварительно сохраняются в журнал отката.
+     * Контрольная сумма пересчитывается при следующей фиксации.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        if (index < size - 1) {
+            beforeOverwrite(index);
+        }
+        for (int i = index + 1; i < size; i++) {
+            // Сначала отображение для записи: оно может заменить частичное отображение той же области
+            MappedByteBuffer target = region(i - 1, true);
+            MappedByteBuffer source = region(i);
+            int sourceOffset = offset(i);
+            int targetOffset = offset(i - 1);
+            for (int b = 0; b < width; b++) {
+                target.put(targetOffset + b, source.get(sourceOffset + b));
+            }
+        }
+        size--;
+        checksumValid = false;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Возвращает элемент по индексу, декодируя его из отображённой памяти.
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    public E get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return codec.read(region(index), offset(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы из списка. Изменение становится постоянным после {@link #flush()};
+     * последующие добавления сохраняют перезаписываемые зафиксированные байты в журнал отката.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+        checksum = FNV_OFFSET_BASIS;
+        checksumValid = true;
+        modCount++;
+    }
+
+    /**
+     * Проверяет наличие элемента, сравнивая закодированные байты без декодирования.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int indexOf(E element) {
+        ensureOpen();
+        if (Objects.isNull(element)) {
+            return -1;
+        }
+        codec.write(probe, 0, element);
+        for (int i = 0; i < size; i++) {
+            MappedByteBuffer region = region(i);
+            int offset = offset(i);
+            int b = 0;
+            while (b < width && region.get(offset + b) == probe.get(b)) {
+                b++;
+            }
+            if (b == width) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new Iterator<E>() {
+            private int cursor;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                int i = cursor++;
+                return codec.read(region(i), offset(i));
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        ensureOpen();
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(codec.read(region(i), offset(i)));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Пересчитывает контрольную сумму зафиксированных данных и сравнивает её с заголовком.
+     * Обращается ко всем страницам файла, поэтому выполняется за O(n).
+     *
+     * @return {@code true}, если данные соответствуют контрольной сумме из заголовка.
+     */
+    public boolean verify() {
+        ensureOpen();
+        return computeChecksum(committedSize) == header.getLong(24);
+    }
+
+    private long computeChecksum(int count) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < count; i++) {
+            h = fnv(h, region(i), offset(i), width);
+        }
+        return h;
+    }
+
+    private static long fnv(long h, ByteBuffer buffer, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            h ^= buffer.get(offset + i) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * Фиксирует изменения: сбрасывает данные на диск, затем записывает и сбрасывает заголовок
+     * с новым размером и контрольной суммой и удаляет журнал отката.
+     *
+     * @throws UncheckedIOException если удалить журнал отката не удалось.
+     */
+    public void flush() {
+        ensureOpen();
+        if (!checksumValid) {
+            checksum = computeChecksum(size);
+            checksumValid = true;
+        }
+        for (MappedByteBuffer region : regions) {
+            if (region != null) {
+                region.force();
+            }
+        }
+        writeHeaderState(size, checksum);
+        header.force();
+        committedSize = size;
+        undoFrom = size;
+        if (undo != null) {
+            try {
+                undo.close();
+                undo = null;
+                Files.delete(undoPath);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Фиксирует изменения, освобождает отображения, обрезает файл до размера данных
+     * и закрывает его. Повторный вызов ничего не делает.
+     *
+     * @throws UncheckedIOException если закрыть файл не удалось.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        for (int i = 0; i < regions.length; i++) {
+            DirectBuffers.free(regions[i]);
+            regions[i] = null;
+        }
+        DirectBuffers.free(header);
+        try {
+            channel.truncate(HEADER_SIZE + (long) size * width);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
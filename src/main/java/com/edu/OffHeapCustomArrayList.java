@@ -0,0 +1,411 @@
+package com.edu;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@code OffHeapCustomArrayList} — реализация {@link CustomArrayList}, хранящая элементы
+ * вне кучи в прямых {@link ByteBuffer}.
+ * <p>
+ * Элементы кодируются {@link ElementCodec} фиксированной ширины и размещаются в сегментах
+ * одинакового размера. Рост списка выделяет новый сегмент и не копирует уже записанные данные.
+ * Добавление записывает байты по абсолютному смещению и не создаёт мусора в куче,
+ * {@link #get(int)} декодирует элемент по смещению {@code (index & mask) * width} в сегменте
+ * {@code index >>> shift}. {@link #contains(Object)} и {@link #remove(Object)} кодируют искомый
+ * элемент один раз и сравнивают байты, не декодируя элементы списка.
+ * <p>
+ * Память сегментов освобождается явно методом {@link #close()}; после закрытия любые операции
+ * со списком выбрасывают {@link IllegalStateException}. Класс не потокобезопасен.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class OffHeapCustomArrayList<E> implements CustomArrayList<E>, AutoCloseable {
+    /**
+     * Количество элементов в сегменте по умолчанию.
+     */
+    private static final int DEFAULT_ELEMENTS_PER_SEGMENT = 1 << 16;
+
+    /**
+     * Кодек элементов.
+     */
+    private final ElementCodec<E> codec;
+
+    /**
+     * Ширина элемента в байтах.
+     */
+    private final int width;
+
+    /**
+     * Сдвиг для вычисления номера сегмента по индексу элемента.
+     */
+    private final int segmentShift;
+
+    /**
+     * Маска для вычисления индекса элемента внутри сегмента.
+     */
+    private final int segmentMask;
+
+    /**
+     * Сегменты с данными; используются первые {@link #segmentCount} элементов массива.
+     */
+    private ByteBuffer[] segments = new ByteBuffer[4];
+
+    /**
+     * Количество выделенных сегментов.
+     */
+    private int segmentCount;
+
+    /**
+     * Количество элементов в списке.
+     */
+    private int size;
+
+    /**
+     * Счётчик структурных изменений списка.
+     */
+    private int modCount;
+
+    /**
+     * Буфер для кодирования искомого элемента в {@link #indexOf(Object)}.
+     */
+    private final ByteBuffer probe;
+
+    /**
+     * Признак закрытого списка.
+     */
+    private boolean closed;
+
+    /**
+     * Создает пустой список с сегментами по {@value #DEFAULT_ELEMENTS_PER_SEGMENT} элементов.
+     *
+     * @param codec кодек элементов.
+     * @throws NullPointerException если {@code codec} равен {@code null}.
+     */
+    public OffHeapCustomArrayList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_ELEMENTS_PER_SEGMENT);
+    }
+
+    /**
+     * Создает пустой список с указанным размером сегмента. Размер округляется вверх
+     * до степени двойки.
+     *
+     * @param codec              кодек элементов.
+     * @param elementsPerSegment количество элементов в одном сегменте.
+     * @throws NullPointerException     если {@code codec} равен {@code null}.
+     * @throws IllegalArgumentException если ширина элемента не положительна или сегмент
+     *                                  не помещается в один {@link ByteBuffer}.
+     */
+    public OffHeapCustomArrayList(ElementCodec<E> codec, int elementsPerSegment) {
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.width = codec.width();
+        if (width <= 0) {
+            throw new IllegalArgumentException("Ширина элемента должна быть положительной: " + width);
+        }
+        if (elementsPerSegment <= 0 || elementsPerSegment > (1 << 30)) {
+            throw new IllegalArgumentException("Недопустимый размер сегмента: " + elementsPerSegment);
+        }
+        int perSegment = Integer.highestOneBit(elementsPerSegment);
+        if (perSegment < elementsPerSegment) {
+            perSegment <<= 1;
+        }
+        if ((long) perSegment * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Сегмент из " + perSegment + " элементов по " + width
+                    + " байт не помещается в ByteBuffer");
+        }
+        this.segmentShift = Integer.numberOfTrailingZeros(perSegment);
+        this.segmentMask = perSegment - 1;
+        this.probe = ByteBuffer.allocate(width).order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer segment(int index) {
+        return segments[index >>> segmentShift];
+    }
+
+    private int offset(int index) {
+        return (index & segmentMask) * width;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("OffHeapCustomArrayList закрыт");
+        }
+    }
+
+    /**
+     * Гарантирует, что выделенные сегменты вмещают не менее {@code minCapacity} элементов.
+     * Уже записанные данные не копируются.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     */
+    public void ensureCapacity(int minCapacity) {
+        ensureOpen();
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер");
+        }
+        int required = minCapacity == 0 ? 0 : ((minCapacity - 1) >>> segmentShift) + 1;
+        if (required > segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(required, segments.length * 2));
+        }
+        while (segmentCount < required) {
+            segments[segmentCount++] = ByteBuffer.allocateDirect((segmentMask + 1) * width)
+                    .order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Возвращает количество элементов, которое вмещают выделенные сегменты.
+     *
+     * @return текущая ёмкость списка.
+     */
+    public long capacity() {
+        return (long) segmentCount << segmentShift;
+    }
+
+    /**
+     * Добавляет элемент в конец списка, кодируя его прямо в сегмент.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(E element) {
+        ensureOpen();
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        codec.write(segment(size), offset(size), element);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка, выделив сегменты заранее.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        ensureOpen();
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса OffHeapCustomArrayList коллекция - null");
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (array.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + array.length);
+        for (Object element : array) {
+            @SuppressWarnings("unchecked")
+            E e = (E) element;
+            codec.write(segment(size), offset(size), e);
+            size++;
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента, сдвигая байты хвоста на одну позицию.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        for (int i = index + 1; i < size; i++) {
+            copyElement(i, i - 1);
+        }
+        size--;
+        modCount++;
+        return true;
+    }
+
+    private void copyElement(int from, int to) {
+        ByteBuffer source = segment(from);
+        ByteBuffer target = segment(to);
+        int sourceOffset = offset(from);
+        int targetOffset = offset(to);
+        int i = 0;
+        for (; i + Long.BYTES <= width; i += Long.BYTES) {
+            target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+        }
+        for (; i < width; i++) {
+            target.put(targetOffset + i, source.get(sourceOffset + i));
+        }
+    }
+
+    /**
+     * Возвращает элемент по индексу, декодируя его из сегмента.
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    public E get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return codec.read(segment(index), offset(index));
+    }
+
+    /**
+     * Возвращает количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, является ли этот список пустым.
+     *
+     * @return {@code true}, если список не содержит элементов; {@code false} в противном случае.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы из списка. Выделенные сегменты сохраняются для повторного
+     * использования; память возвращается только методом {@link #close()}.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Проверяет, содержит ли список указанный элемент, сравнивая его закодированные байты
+     * с байтами элементов списка.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int indexOf(E element) {
+        ensureOpen();
+        if (Objects.isNull(element)) {
+            return -1;
+        }
+        codec.write(probe, 0, element);
+        for (int i = 0; i < size; i++) {
+            if (matchesProbe(segment(i), offset(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesProbe(ByteBuffer segment, int offset) {
+        int i = 0;
+        for (; i + Long.BYTES <= width; i += Long.BYTES) {
+            if (segment.getLong(offset + i) != probe.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < width; i++) {
+            if (segment.get(offset + i) != probe.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает итератор, декодирующий элементы по мере обхода.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new Iterator<E>() {
+            private int cursor;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                int i = cursor++;
+                return codec.read(segment(i), offset(i));
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        ensureOpen();
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(codec.read(segment(i), offset(i)));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Освобождает память всех сегментов. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+            segments[i] = null;
+        }
+        segmentCount = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,269 @@
+package com.edu;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Параллельные операции над диапазоном {@code [0, size)} массива элементов на {@link ForkJoinPool}.
+ * <p>
+ * Используется {@link DefaultCustomArrayList}. Диапазон делится пополам, пока его длина больше
+ * {@code threshold}; листовые задачи обрабатывают свой поддиапазон последовательно.
+ * Вызывающая сторона сама решает, выполнять ли операцию параллельно, — здесь всегда строится
+ * дерево задач.
+ */
+final class ParallelArrayOps {
+    /**
+     * Значение «совпадение не найдено» для поиска.
+     */
+    static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private ParallelArrayOps() {
+    }
+
+    /**
+     * Ищет элемент, равный {@code element}. Найденная позиция публикуется в общий счётчик,
+     * по которому остальные задачи прекращают просмотр: при {@code firstOnly == false} — сразу,
+     * иначе — как только их текущая позиция оказывается правее найденной.
+     *
+     * @return позиция совпадения (при {@code firstOnly} — наименьшая) или {@code -1}.
+     */
+    static int indexOf(ForkJoinPool pool, Object[] elements, int size, Object element,
+                       boolean firstOnly, int threshold) {
+        AtomicInteger found = new AtomicInteger(NOT_FOUND);
+        pool.invoke(new SearchTask(elements, 0, size, element, firstOnly, threshold, found));
+        int index = found.get();
+        return index == NOT_FOUND ? -1 : index;
+    }
+
+    static <E> void forEach(ForkJoinPool pool, E[] elements, int size, Consumer<? super E> action, int threshold) {
+        pool.invoke(new ForEachTask<>(null, elements, 0, size, action, threshold));
+    }
+
+    static <E> void replaceAll(ForkJoinPool pool, E[] elements, int size, UnaryOperator<E> operator, int threshold) {
+        pool.invoke(new ReplaceTask<>(elements, 0, size, operator, threshold));
+    }
+
+    static <E> E reduce(ForkJoinPool pool, E[] elements, int size, E identity, BinaryOperator<E> accumulator,
+                        int threshold) {
+        return pool.invoke(new ReduceTask<>(elements, 0, size, identity, accumulator, threshold));
+    }
+
+    /**
+     * Устойчивая сортировка слиянием: листовые диапазоны сортируются {@link Arrays#sort},
+     * отсортированные половины сливаются через вспомогательный массив.
+     */
+    static <E> void sort(ForkJoinPool pool, E[] elements, int size, Comparator<? super E> comparator, int threshold) {
+        @SuppressWarnings("unchecked")
+        E[] buffer = (E[]) new Object[size];
+        pool.invoke(new SortTask<>(elements, buffer, 0, size, comparator, threshold));
+    }
+
+    private static final class SearchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+        private final Object element;
+        private final boolean firstOnly;
+        private final int threshold;
+        private final AtomicInteger found;
+
+        SearchTask(Object[] elements, int from, int to, Object element, boolean firstOnly, int threshold,
+                   AtomicInteger found) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.element = element;
+            this.firstOnly = firstOnly;
+            this.threshold = threshold;
+            this.found = found;
+        }
+
+        private boolean cancelled(int position) {
+            int index = found.get();
+            return firstOnly ? index < position : index != NOT_FOUND;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled(from)) {
+                return;
+            }
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    if (element.equals(elements[i])) {
+                        found.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                    if ((i & 0xFF) == 0 && cancelled(i)) {
+                        return;
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SearchTask(elements, from, mid, element, firstOnly, threshold, found),
+                    new SearchTask(elements, mid, to, element, firstOnly, threshold, found));
+        }
+    }
+
+    private static final class ForEachTask<E> extends CountedCompleter<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] elements;
+        private final int from;
+        private final int to;
+        private final Consumer<? super E> action;
+        private final int threshold;
+
+        ForEachTask(CountedCompleter<?> parent, E[] elements, int from, int to, Consumer<? super E> action,
+                    int threshold) {
+            super(parent);
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void compute() {
+            int lo = from;
+            int hi = to;
+            while (hi - lo > threshold) {
+                int mid = (lo + hi) >>> 1;
+                addToPendingCount(1);
+                new ForEachTask<>(this, elements, mid, hi, action, threshold).fork();
+                hi = mid;
+            }
+            for (int i = lo; i < hi; i++) {
+                action.accept(elements[i]);
+            }
+            propagateCompletion();
+        }
+    }
+
+    private static final class ReplaceTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] elements;
+        private final int from;
+        private final int to;
+        private final UnaryOperator<E> operator;
+        private final int threshold;
+
+        ReplaceTask(E[] elements, int from, int to, UnaryOperator<E> operator, int threshold) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.operator = operator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    E replacement = operator.apply(elements[i]);
+                    if (replacement == null) {
+                        throw new NullPointerException("Функция replaceAll() вернула null");
+                    }
+                    elements[i] = replacement;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReplaceTask<>(elements, from, mid, operator, threshold),
+                    new ReplaceTask<>(elements, mid, to, operator, threshold));
+        }
+    }
+
+    private static final class ReduceTask<E> extends RecursiveTask<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] elements;
+        private final int from;
+        private final int to;
+        private final E identity;
+        private final BinaryOperator<E> accumulator;
+        private final int threshold;
+
+        ReduceTask(E[] elements, int from, int to, E identity, BinaryOperator<E> accumulator, int threshold) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected E compute() {
+            if (to - from <= threshold) {
+                E result = identity;
+                for (int i = from; i < to; i++) {
+                    result = accumulator.apply(result, elements[i]);
+                }
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            ReduceTask<E> left = new ReduceTask<>(elements, from, mid, identity, accumulator, threshold);
+            left.fork();
+            E right = new ReduceTask<>(elements, mid, to, identity, accumulator, threshold).compute();
+            return accumulator.apply(left.join(), right);
+        }
+    }
+
+    private static final class SortTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] elements;
+        private final E[] buffer;
+        private final int from;
+        private final int to;
+        private final Comparator<? super E> comparator;
+        private final int threshold;
+
+        SortTask(E[] elements, E[] buffer, int from, int to, Comparator<? super E> comparator, int threshold) {
+            this.elements = elements;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                Arrays.sort(elements, from, to, comparator);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask<>(elements, buffer, from, mid, comparator, threshold),
+                    new SortTask<>(elements, buffer, mid, to, comparator, threshold));
+            if (comparator.compare(elements[mid - 1], elements[mid]) <= 0) {
+                return; // половины уже упорядочены относительно друг друга
+            }
+            System.arraycopy(elements, from, buffer, from, mid - from);
+            int left = from;
+            int right = mid;
+            int out = from;
+            while (left < mid && right < to) {
+                elements[out++] = comparator.compare(elements[right], buffer[left]) < 0
+                        ? elements[right++]
+                        : buffer[left++];
+            }
+            System.arraycopy(buffer, left, elements, out, mid - left);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.edu;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Основа для реализаций {@link CustomArrayList}, доступных только для чтения: снимков
+ * и представлений. Все изменяющие операции выбрасывают {@link UnsupportedOperationException}.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+abstract class ReadOnlyCustomArrayList<E> implements CustomArrayList<E> {
+
+    /**
+     * Возвращает исключение, выбрасываемое изменяющими операциями.
+     *
+     * @return исключение с описанием причины.
+     */
+    UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Список доступен только для чтения");
+    }
+
+    @Override
+    public boolean add(E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAllFrom(CustomArrayList<? extends E> other) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(E[] array, int from, int to) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean remove(E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,484 @@
+package com.edu;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * {@code RingCustomArrayList} — реализация {@link CustomArrayList} на кольцевом буфере
+ * с операциями двусторонней очереди.
+ * <p>
+ * Элементы занимают {@code size} ячеек массива, начиная с позиции {@code head} и с переходом
+ * через конец массива в начало. Ёмкость массива — степень двойки, поэтому физическая позиция
+ * элемента с индексом {@code i} равна {@code (head + i) & (capacity - 1)}, и {@link #get(int)}
+ * выполняется за O(1). {@link #addFirst(Object)}, {@link #addLast(Object)}, {@link #pollFirst()}
+ * и {@link #pollLast()} лишь сдвигают {@code head} или {@code size} и выполняются за O(1)
+ * (амортизированно при росте), поэтому список подходит для очередей FIFO, где
+ * {@link DefaultCustomArrayList} сдвигал бы весь массив при каждом извлечении из головы.
+ * <p>
+ * При росте кольцо «разворачивается» в новом массиве двумя вызовами {@link System#arraycopy}
+ * так, что {@code head} становится равным нулю. Удаление по индексу сдвигает ближайшую к концу
+ * часть списка, т.е. не более {@code size / 2} элементов.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class RingCustomArrayList<E> implements CustomArrayList<E> {
+    /**
+     * Начальная ёмкость по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Максимальная ёмкость: наибольшая степень двойки, помещающаяся в {@code int}.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Кольцевой буфер; длина всегда степень двойки.
+     */
+    private Object[] elements;
+
+    /**
+     * Позиция первого элемента в буфере.
+     */
+    private int head;
+
+    /**
+     * Количество элементов в списке.
+     */
+    private int size;
+
+    /**
+     * Счётчик структурных изменений списка.
+     */
+    private int modCount;
+
+    /**
+     * Создает пустой список с начальной емкостью по умолчанию ({@value #DEFAULT_CAPACITY}).
+     */
+    public RingCustomArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью, округлённой вверх до степени двойки.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна или больше 2<sup>30</sup>.
+     */
+    public RingCustomArrayList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Недопустимая начальная емкость: " + initialCapacity);
+        }
+        this.elements = new Object[capacityFor(initialCapacity)];
+    }
+
+    /**
+     * Возвращает наименьшую степень двойки, не меньшую {@code minCapacity} (но не меньше 2).
+     */
+    private static int capacityFor(int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(minCapacity, 2));
+        return capacity < minCapacity ? capacity << 1 : capacity;
+    }
+
+    private int mask() {
+        return elements.length - 1;
+    }
+
+    /**
+     * Гарантирует, что буфер вмещает не менее {@code minCapacity} элементов. Если буфер
+     * расширяется, кольцо разворачивается в новом массиве, и первый элемент оказывается
+     * в нулевой ячейке.
+     *
+     * @param minCapacity требуемая минимальная ёмкость.
+     * @throws OutOfMemoryError если требуемая ёмкость превышает 2<sup>30</sup>.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер");
+        }
+        if (minCapacity > elements.length) {
+            resize(capacityFor(minCapacity));
+        }
+    }
+
+    /**
+     * Переносит элементы в новый массив указанной длины, разворачивая кольцо.
+     */
+    private void resize(int newCapacity) {
+        Object[] newElements = new Object[newCapacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        head = 0;
+    }
+
+    /**
+     * Возвращает текущую ёмкость буфера.
+     *
+     * @return количество элементов, которое вмещает буфер без расширения.
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    private void growIfFull() {
+        if (size == elements.length) {
+            ensureCapacity(size == MAX_CAPACITY ? -1 : size << 1);
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало списка за O(1).
+     *
+     * @param element элемент, который нужно добавить.
+     * @throws NullPointerException если элемент равен {@code null}.
+     */
+    public void addFirst(E element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException("Добавляемый элемент - null");
+        }
+        growIfFull();
+        head = (head - 1) & mask();
+        elements[head] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Добавляет элемент в конец списка за O(1).
+     *
+     * @param element элемент, который нужно добавить.
+     * @throws NullPointerException если элемент равен {@code null}.
+     */
+    public void addLast(E element) {
+        if (Objects.isNull(element)) {
+            throw new NullPointerException("Добавляемый элемент - null");
+        }
+        growIfFull();
+        elements[(head + size) & mask()] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент списка за O(1).
+     *
+     * @return первый элемент или {@code null}, если список пуст.
+     */
+    @SuppressWarnings("unchecked")
+    public E pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        E element = (E) elements[head];
+        elements[head] = null; // сброс ссылки для GC
+        head = (head + 1) & mask();
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Удаляет и возвращает последний элемент списка за O(1).
+     *
+     * @return последний элемент или {@code null}, если список пуст.
+     */
+    @SuppressWarnings("unchecked")
+    public E pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        int tail = (head + size - 1) & mask();
+        E element = (E) elements[tail];
+        elements[tail] = null; // сброс ссылки для GC
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /**
+     * Возвращает первый элемент списка, не удаляя его.
+     *
+     * @return первый элемент или {@code null}, если список пуст.
+     */
+    @SuppressWarnings("unchecked")
+    public E peekFirst() {
+        return (E) elements[head];
+    }
+
+    /**
+     * Возвращает последний элемент списка, не удаляя его.
+     *
+     * @return последний элемент или {@code null}, если список пуст.
+     */
+    @SuppressWarnings("unchecked")
+    public E peekLast() {
+        return (E) elements[(head + size - 1) & mask()];
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка, расширив буфер не более одного раза.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса RingCustomArrayList коллекция - null");
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (array.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + array.length);
+        int mask = mask();
+        for (Object element : array) {
+            elements[(head + size++) & mask] = element;
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Вставляет все элементы из указанной коллекции, начиная с указанной позиции. Как и при
+     * удалении по индексу, сдвигается меньшая из частей списка: голова влево или хвост вправо.
+     *
+     * @param index позиция, в которую вставляется первый элемент коллекции
+     * @param c     коллекция элементов, которые необходимо вставить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException      если коллекция {@code c} или один из её элементов равен {@code null}
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index > size()})
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса RingCustomArrayList коллекция - null");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] array = c.toArray();
+        for (Object element : array) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        int numNew = array.length;
+        if (numNew == 0) {
+            return false;
+        }
+        ensureCapacity(size + numNew);
+        int mask = mask();
+        if (index < size - index) {
+            int newHead = (head - numNew) & mask;
+            for (int i = 0; i < index; i++) {
+                elements[(newHead + i) & mask] = elements[(head + i) & mask];
+            }
+            head = newHead;
+        } else {
+            for (int i = size - 1; i >= index; i--) {
+                elements[(head + i + numNew) & mask] = elements[(head + i) & mask];
+            }
+        }
+        for (int i = 0; i < numNew; i++) {
+            elements[(head + index + i) & mask] = array[i];
+        }
+        size += numNew;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая меньшую из частей списка по обе стороны от него.
+     * Удаление первого и последнего элемента выполняется за O(1).
+     *
+     * @param index индекс удаляемого элемента.
+     * @return удалённый элемент.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @SuppressWarnings("unchecked")
+    public E removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int mask = mask();
+        E removed = (E) elements[(head + index) & mask];
+        if (index < size - index - 1) {
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Возвращает элемент по индексу за O(1).
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) elements[(head + index) & mask()];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы из списка, сохраняя ёмкость буфера.
+     */
+    @Override
+    public void clear() {
+        int firstPart = Math.min(size, elements.length - head);
+        Arrays.fill(elements, head, head + firstPart, null);
+        Arrays.fill(elements, 0, size - firstPart, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int indexOf(E element) {
+        if (Objects.isNull(element)) {
+            return -1;
+        }
+        int mask = mask();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(elements[(head + i) & mask])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает итератор по элементам списка от первого к последнему.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int cursor;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                int i = cursor;
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                cursor = i + 1;
+                return (E) elements[(head + i) & mask()];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] elements = this.elements;
+        int mask = elements.length - 1;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept((E) elements[(head + i) & mask]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+}
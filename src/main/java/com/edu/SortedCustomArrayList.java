@@ -0,0 +1,557 @@
+package com.edu;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * {@code SortedCustomArrayList} — реализация {@link CustomArrayList}, поддерживающая элементы
+ * упорядоченными по заданному {@link Comparator}.
+ * <p>
+ * Элементы хранятся в массиве по возрастанию; равные по компаратору элементы идут в порядке
+ * добавления. Поэтому {@link #contains(Object)}, {@link #indexOf(Object)} и поиск в
+ * {@link #remove(Object)} выполняются двоичным поиском за O(log n), а {@link #add(Object)}
+ * находит позицию двоичным поиском и сдвигает хвост массива. {@link #addAll(Collection)}
+ * сортирует пакет и сливает его с массивом за один проход с конца, без промежуточных вставок:
+ * O(m log m + n + m) вместо O(m · n).
+ * <p>
+ * Равенство элементов определяется компаратором ({@code compare(a, b) == 0}), а не
+ * {@link Object#equals(Object)}, как в {@link java.util.TreeSet}. {@link #subRange(Object, Object)}
+ * возвращает представление диапазона ключей без копирования элементов.
+ *
+ * @param <E> тип элементов в этом списке.
+ */
+public class SortedCustomArrayList<E> implements CustomArrayList<E> {
+    /**
+     * Начальная емкость массива по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Компаратор, задающий порядок элементов.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Массив, в котором хранятся элементы списка по возрастанию.
+     */
+    private Object[] elementData;
+
+    /**
+     * Количество элементов в списке.
+     */
+    private int size;
+
+    /**
+     * Счётчик структурных изменений списка.
+     */
+    private int modCount;
+
+    /**
+     * Создает пустой список с указанным порядком и начальной емкостью по умолчанию.
+     *
+     * @param comparator компаратор, задающий порядок элементов.
+     * @throws NullPointerException если {@code comparator} равен {@code null}.
+     */
+    public SortedCustomArrayList(Comparator<? super E> comparator) {
+        this(comparator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанным порядком и начальной емкостью.
+     *
+     * @param comparator      компаратор, задающий порядок элементов.
+     * @param initialCapacity начальная емкость списка.
+     * @throws NullPointerException     если {@code comparator} равен {@code null}.
+     * @throws IllegalArgumentException если {@code initialCapacity} отрицательна.
+     */
+    public SortedCustomArrayList(Comparator<? super E> comparator, int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Недопустимая начальная емкость: " + initialCapacity);
+        }
+        this.comparator = Objects.requireNonNull(comparator, "comparator");
+        this.elementData = new Object[initialCapacity];
+    }
+
+    /**
+     * Возвращает компаратор, задающий порядок элементов.
+     *
+     * @return компаратор списка.
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) elementData[index];
+    }
+
+    /**
+     * Возвращает позицию первого элемента, не меньшего {@code key}, среди {@code [from, to)}.
+     */
+    private int lowerBound(E key, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elementAt(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Возвращает позицию первого элемента, большего {@code key}, среди {@code [from, to)}.
+     */
+    private int upperBound(E key, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elementAt(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthStrategy.MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Требуемая ёмкость списка превышает максимальный размер");
+        }
+        if (minCapacity > elementData.length) {
+            int newCapacity = GrowthStrategy.doubling().newCapacity(elementData.length, minCapacity);
+            elementData = Arrays.copyOf(elementData, newCapacity);
+        }
+    }
+
+    /**
+     * Вставляет элемент в позицию, сохраняющую порядок: после всех равных ему элементов.
+     *
+     * @param element элемент, который нужно добавить.
+     * @return {@code true}, если элемент был добавлен; {@code false}, если элемент равен {@code null}.
+     */
+    @Override
+    public boolean add(E element) {
+        if (Objects.isNull(element)) {
+            return false;
+        }
+        int position = upperBound(element, 0, size);
+        ensureCapacityInternal(size + 1);
+        System.arraycopy(elementData, position, elementData, position + 1, size - position);
+        elementData[position] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы коллекции: пакет сортируется, затем сливается с массивом
+     * за один проход от конца к началу, так что каждый элемент списка сдвигается не более
+     * одного раза.
+     *
+     * @param c коллекция элементов, которые необходимо добавить в список
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если коллекция {@code c} или один из её элементов равен {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Collection<? extends E> c) {
+        if (Objects.isNull(c)) {
+            throw new NullPointerException("Переданная в метод addAll() класса SortedCustomArrayList коллекция - null");
+        }
+        Object[] batch = c.toArray();
+        for (Object element : batch) {
+            if (Objects.isNull(element)) {
+                throw new NullPointerException("Коллекция содержит null элемент");
+            }
+        }
+        if (batch.length == 0) {
+            return false;
+        }
+        Arrays.sort((E[]) batch, comparator);
+        ensureCapacityInternal(size + batch.length);
+        int i = size - 1;
+        int j = batch.length - 1;
+        int out = size + batch.length - 1;
+        while (j >= 0) {
+            // При равенстве первым (с конца) выбирается элемент пакета: он добавлен позже
+            if (i >= 0 && comparator.compare(elementAt(i), (E) batch[j]) > 0) {
+                elementData[out--] = elementData[i--];
+            } else {
+                elementData[out--] = batch[j--];
+            }
+        }
+        size += batch.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Не поддерживается: позиция элементов определяется компаратором, а не индексом.
+     * Для добавления используйте {@link #addAll(Collection)}.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        throw new UnsupportedOperationException("Вставка по индексу нарушает порядок SortedCustomArrayList");
+    }
+
+    /**
+     * Добавляет все элементы другого списка одним слиянием.
+     *
+     * @param other список, элементы которого необходимо добавить
+     * @return {@code true}, если список был изменён в результате вызова, иначе {@code false}
+     * @throws NullPointerException если переданный список или один из его элементов равен {@code null}
+     */
+    @Override
+    public boolean addAllFrom(CustomArrayList<? extends E> other) {
+        Objects.requireNonNull(other);
+        List<E> batch = new ArrayList<>(other.size());
+        other.forEach(batch::add);
+        return addAll(batch);
+    }
+
+    /**
+     * Удаляет первый элемент, равный указанному по компаратору. Элемент находится
+     * двоичным поиском, затем сдвигается хвост массива.
+     *
+     * @param element элемент, который нужно удалить из списка.
+     * @return {@code true}, если элемент был найден и удален; {@code false} в противном случае.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     *
+     * @param index индекс удаляемого элемента.
+     * @return удалённый элемент.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    public E removeAt(int index) {
+        Objects.checkIndex(index, size);
+        E removed = elementAt(index);
+        System.arraycopy(elementData, index + 1, elementData, index, size - index - 1);
+        elementData[--size] = null; // сброс ссылки для GC
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие предикату: удаляемые отмечаются в битовой маске,
+     * затем массив сжимается за один проход. Порядок оставшихся элементов не меняется.
+     * Если предикат выбросит исключение, удаляются уже отмеченные элементы; если предикат
+     * изменил список, массив не трогается.
+     *
+     * @param filter предикат, возвращающий {@code true} для удаляемых элементов.
+     * @return {@code true}, если был удалён хотя бы один элемент, иначе {@code false}.
+     * @throws NullPointerException            если {@code filter} равен {@code null}.
+     * @throws ConcurrentModificationException если предикат изменил список.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        Object[] elementData = this.elementData;
+        int size = this.size;
+        int expectedModCount = modCount;
+        long[] removed = null;
+        int first = -1;
+        try {
+            for (int i = 0; i < size; i++) {
+                boolean remove = filter.test(elementAt(i));
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (remove) {
+                    if (removed == null) {
+                        removed = new long[(size + 63) >>> 6];
+                        first = i;
+                    }
+                    removed[i >>> 6] |= 1L << i;
+                }
+            }
+        } finally {
+            if (removed != null && modCount == expectedModCount) {
+                this.size = DefaultCustomArrayList.compactRemoved(elementData, size, removed, first);
+                modCount++;
+            }
+        }
+        return removed != null;
+    }
+
+    /**
+     * Удаляет элементы с индексами из диапазона {@code [from, to)} одним сдвигом хвоста.
+     *
+     * @param from индекс первого удаляемого элемента (включительно).
+     * @param to   индекс, следующий за последним удаляемым элементом (не включительно).
+     * @throws IndexOutOfBoundsException если {@code from < 0}, {@code to > size()} или {@code from > to}.
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == to) {
+            return;
+        }
+        System.arraycopy(elementData, to, elementData, from, size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(elementData, newSize, size, null); // сброс ссылок для GC
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу; индекс {@code 0} соответствует наименьшему элементу.
+     *
+     * @param index индекс элемента для возврата.
+     * @return элемент по указанному индексу.
+     * @throws IndexOutOfBoundsException если индекс находится вне диапазона ({@code index < 0 || index >= size()}).
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elementAt(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы из списка, сохраняя ёмкость массива.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elementData, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Проверяет двоичным поиском, содержит ли список элемент, равный указанному по компаратору.
+     *
+     * @param element элемент, наличие которого проверяется в списке.
+     * @return {@code true}, если список содержит указанный элемент; {@code false} в противном случае.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает двоичным поиском индекс первого элемента, равного указанному по компаратору.
+     *
+     * @param element искомый элемент.
+     * @return индекс первого вхождения или {@code -1}, если элемента нет в списке.
+     */
+    public int indexOf(E element) {
+        if (Objects.isNull(element)) {
+            return -1;
+        }
+        int position = lowerBound(element, 0, size);
+        return position < size && comparator.compare(elementAt(position), element) == 0 ? position : -1;
+    }
+
+    /**
+     * Возвращает представление элементов с ключами из полуинтервала {@code [fromKey, toKey)}.
+     * Элементы не копируются: границы представления вычисляются двоичным поиском при каждом
+     * обращении, поэтому изменения списка сразу видны в представлении и наоборот.
+     * Добавление в представление элемента вне диапазона выбрасывает {@link IllegalArgumentException}.
+     *
+     * @param fromKey нижняя граница диапазона (включительно).
+     * @param toKey   верхняя граница диапазона (не включительно).
+     * @return представление диапазона.
+     * @throws NullPointerException     если одна из границ равна {@code null}.
+     * @throws IllegalArgumentException если {@code fromKey} больше {@code toKey}.
+     */
+    public CustomArrayList<E> subRange(E fromKey, E toKey) {
+        Objects.requireNonNull(fromKey, "fromKey");
+        Objects.requireNonNull(toKey, "toKey");
+        if (comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey больше toKey");
+        }
+        return new SubRange(fromKey, toKey);
+    }
+
+    /**
+     * Возвращает итератор по элементам списка в порядке возрастания.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(0, size);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(elementAt(i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Итератор по диапазону индексов {@code [from, to)} массива.
+     */
+    private class Itr implements Iterator<E> {
+        private int cursor;
+        private final int fence;
+        private final int expectedModCount = modCount;
+
+        Itr(int from, int to) {
+            this.cursor = from;
+            this.fence = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < fence;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= fence) {
+                throw new NoSuchElementException();
+            }
+            return elementAt(cursor++);
+        }
+    }
+
+    /**
+     * Представление элементов с ключами из {@code [fromKey, toKey)}.
+     */
+    private class SubRange implements CustomArrayList<E> {
+        private final E fromKey;
+        private final E toKey;
+
+        SubRange(E fromKey, E toKey) {
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
+
+        private int low() {
+            return lowerBound(fromKey, 0, size);
+        }
+
+        private int high() {
+            return lowerBound(toKey, 0, size);
+        }
+
+        private boolean inRange(E element) {
+            return comparator.compare(element, fromKey) >= 0 && comparator.compare(element, toKey) < 0;
+        }
+
+        private void checkInRange(E element) {
+            if (!inRange(element)) {
+                throw new IllegalArgumentException("Элемент вне диапазона представления: " + element);
+            }
+        }
+
+        @Override
+        public boolean add(E element) {
+            if (Objects.isNull(element)) {
+                return false;
+            }
+            checkInRange(element);
+            return SortedCustomArrayList.this.add(element);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            if (Objects.isNull(c)) {
+                throw new NullPointerException("Переданная в метод addAll() коллекция - null");
+            }
+            for (E element : c) {
+                if (Objects.nonNull(element)) {
+                    checkInRange(element);
+                }
+            }
+            return SortedCustomArrayList.this.addAll(c);
+        }
+
+        @Override
+        public boolean remove(E element) {
+            return Objects.nonNull(element) && inRange(element) && SortedCustomArrayList.this.remove(element);
+        }
+
+        @Override
+        public E get(int index) {
+            int low = low();
+            Objects.checkIndex(index, high() - low);
+            return elementAt(low + index);
+        }
+
+        @Override
+        public int size() {
+            return high() - low();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        /**
+         * Удаляет из исходного списка все элементы диапазона.
+         */
+        @Override
+        public void clear() {
+            SortedCustomArrayList.this.removeRange(low(), high());
+        }
+
+        @Override
+        public boolean contains(E element) {
+            return Objects.nonNull(element) && inRange(element) && SortedCustomArrayList.this.contains(element);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Itr(low(), high());
+        }
+    }
+}
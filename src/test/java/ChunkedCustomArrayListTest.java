@@ -0,0 +1,174 @@
+import com.edu.ChunkedCustomArrayList;
+import com.edu.CustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link ChunkedCustomArrayList}.
+ * Используются блоки по 4 элемента, чтобы вставки и удаления переносили элементы
+ * между блоками и сдвигали начала кольцевых буферов.
+ */
+public class ChunkedCustomArrayListTest {
+
+    private ChunkedCustomArrayList<Integer> list;
+
+    /**
+     * Инициализирует новый пустой список с маленькими блоками перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new ChunkedCustomArrayList<>(4);
+    }
+
+    /**
+     * Тест проверяет добавление в конец и доступ по индексу через несколько блоков.
+     */
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(list.add(i));
+        }
+        assertFalse(list.add(null));
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+    }
+
+    /**
+     * Тест проверяет вставку и удаление в середине списка.
+     */
+    @Test
+    public void testInsertAndRemoveInMiddle() {
+        list.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8));
+        list.add(2, 100);
+        list.add(0, 200);
+        assertEquals(Arrays.asList(200, 0, 1, 100, 2, 3, 4, 5, 6, 7, 8), toList());
+        assertEquals(Integer.valueOf(100), list.removeAt(3));
+        assertTrue(list.remove(200));
+        assertEquals(IntStream.range(0, 9).boxed().collect(Collectors.toList()), toList());
+        assertTrue(list.addAll(4, IntStream.range(50, 60).boxed().collect(Collectors.toList())));
+        assertEquals(19, list.size());
+        assertEquals(Integer.valueOf(50), list.get(4));
+        assertEquals(Integer.valueOf(4), list.get(14));
+    }
+
+    /**
+     * Тест сравнивает список с {@link ArrayList} на случайной последовательности
+     * вставок и удалений по индексу.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int action = random.nextInt(4);
+            if (action == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAt(index));
+            } else if (action == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                list.add(index, step);
+            } else {
+                expected.add(step);
+                list.add(step);
+            }
+        }
+        assertEquals(expected, toList());
+        assertEquals(expected.indexOf(expected.get(expected.size() / 2)), list.indexOf(expected.get(expected.size() / 2)));
+    }
+
+    /**
+     * Тест проверяет обнаружение изменений во время обхода и очистку списка.
+     */
+    @Test
+    public void testIteratorAndClear() {
+        list.addAll(Collections.nCopies(6, 1));
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.removeAt(0);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertTrue(list.add(5));
+        assertEquals(Integer.valueOf(5), list.get(0));
+    }
+
+    /**
+     * Тест сравнивает снимки со списками-копиями на случайной последовательности операций:
+     * изменения после снимка не должны быть видны ни в одном из ранее созданных снимков.
+     */
+    @Test
+    public void testSnapshotsMatchCopies() {
+        Random random = new Random(13);
+        List<Integer> expected = new ArrayList<>();
+        List<CustomArrayList<Integer>> snapshots = new ArrayList<>();
+        List<List<Integer>> copies = new ArrayList<>();
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(5);
+            if (action == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAt(index));
+            } else if (action == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                list.add(index, step);
+            } else if (action == 2 && step % 50 == 0) {
+                snapshots.add(list.snapshot());
+                copies.add(new ArrayList<>(expected));
+            } else {
+                expected.add(step);
+                list.add(step);
+            }
+        }
+        list.clear();
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(copies.get(i), snapshots.get(i).stream().collect(Collectors.toList()));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> snapshots.get(0).add(1));
+    }
+
+    /**
+     * Тест проверяет, что добавление в конец после снимка копирует только последний блок.
+     */
+    @Test
+    public void testSnapshotCopiesOnlyTouchedChunk() throws NoSuchFieldException, IllegalAccessException {
+        list.addAll(IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        Field chunksField = ChunkedCustomArrayList.class.getDeclaredField("chunks");
+        chunksField.setAccessible(true);
+        Object[][] before = (Object[][]) chunksField.get(list);
+        Object[] firstChunk = before[0];
+        Object[] lastChunk = before[2];
+
+        CustomArrayList<Integer> snapshot = list.snapshot();
+        list.add(10);
+        Object[][] after = (Object[][]) chunksField.get(list);
+        assertNotSame(before, after);
+        assertSame(firstChunk, after[0]);
+        assertNotSame(lastChunk, after[2]);
+        assertEquals(10, snapshot.size());
+        assertEquals(Integer.valueOf(9), snapshot.get(9));
+    }
+
+    private List<Integer> toList() {
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        assertEquals(result, list.stream().collect(Collectors.toList()));
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+import com.edu.ConcurrentAppendBuffer;
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link ConcurrentAppendBuffer}.
+ * Маленькие сегменты и общие полосы заставляют потоки конкурировать за ячейки
+ * и продлевать цепочки сегментов одновременно с переносом.
+ */
+public class ConcurrentAppendBufferTest {
+
+    /**
+     * Тест проверяет однопоточное добавление, перенос и заморозку.
+     */
+    @Test
+    public void testDrainAndFreeze() {
+        ConcurrentAppendBuffer<Integer> buffer = new ConcurrentAppendBuffer<>(1, 4);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.add(i));
+        }
+        assertFalse(buffer.add(null));
+
+        CustomArrayList<Integer> target = new DefaultCustomArrayList<>();
+        target.add(-1);
+        assertEquals(10, buffer.drainTo(target));
+        assertEquals(11, target.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), target.get(i + 1));
+        }
+        assertEquals(0, buffer.drainTo(target));
+
+        buffer.add(100);
+        buffer.add(101);
+        CustomArrayList<Integer> frozen = buffer.freeze();
+        assertTrue(buffer.isFrozen());
+        assertEquals(2, frozen.size());
+        assertEquals(Integer.valueOf(100), frozen.get(0));
+        assertEquals(Integer.valueOf(101), frozen.get(1));
+        assertThrows(IllegalStateException.class, () -> buffer.add(102));
+        assertTrue(buffer.freeze().isEmpty());
+        assertEquals(0, buffer.drainTo(target));
+    }
+
+    /**
+     * Тест проверяет, что память под сегменты выделяется только для полос с добавлениями:
+     * 1024 полосы по 2<sup>20</sup> ячеек при заблаговременном выделении заняли бы гигабайты
+     * на каждый перенос.
+     */
+    @Test
+    public void testSegmentsAllocatedLazily() throws Exception {
+        ConcurrentAppendBuffer<Integer> buffer = new ConcurrentAppendBuffer<>(1024, 1 << 20);
+        CustomArrayList<Integer> target = new DefaultCustomArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, buffer.drainTo(target));
+        }
+        buffer.add(1);
+        Thread producer = new Thread(() -> buffer.add(2));
+        producer.start();
+        producer.join();
+        assertEquals(2, buffer.drainTo(target));
+        assertEquals(Arrays.asList(1, 2), sorted(target));
+        buffer.add(3);
+        assertEquals(Arrays.asList(3), sorted(buffer.freeze()));
+    }
+
+    /**
+     * Тест проверяет, что одновременные добавления из нескольких потоков и периодические
+     * переносы не теряют и не дублируют элементы, а порядок элементов каждого потока сохраняется.
+     */
+    @Test
+    public void testConcurrentProducersAndDrains() throws Exception {
+        ConcurrentAppendBuffer<Integer> buffer = new ConcurrentAppendBuffer<>(2, 16);
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            producers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    buffer.add(base + i);
+                }
+                return null;
+            }));
+        }
+        CustomArrayList<Integer> target = new DefaultCustomArrayList<>();
+        start.countDown();
+        boolean running = true;
+        while (running) {
+            buffer.drainTo(target);
+            running = false;
+            for (Future<?> producer : producers) {
+                running |= !producer.isDone();
+            }
+        }
+        for (Future<?> producer : producers) {
+            producer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        CustomArrayList<Integer> rest = buffer.freeze();
+        target.addAllFrom(rest);
+
+        assertEquals(threads * perThread, target.size());
+        boolean[] seen = new boolean[threads * perThread];
+        int[] last = new int[threads];
+        Arrays.fill(last, -1);
+        for (Integer value : target) {
+            assertFalse(seen[value], "Элемент перенесён дважды: " + value);
+            seen[value] = true;
+            int producer = value / perThread;
+            assertTrue(value % perThread > last[producer], "Нарушен порядок потока " + producer);
+            last[producer] = value % perThread;
+        }
+    }
+
+    private static List<Integer> sorted(CustomArrayList<Integer> list) {
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        result.sort(null);
+        return result;
+    }
+}
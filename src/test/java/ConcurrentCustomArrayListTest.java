@@ -0,0 +1,148 @@
+import com.edu.ConcurrentCustomArrayList;
+import com.edu.CustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link ConcurrentCustomArrayList}.
+ * Проверяют базовый контракт {@link CustomArrayList}, изоляцию итераторов
+ * от последующих изменений и корректность при одновременной записи из нескольких потоков.
+ */
+public class ConcurrentCustomArrayListTest {
+
+    private CustomArrayList<Integer> list;
+
+    /**
+     * Инициализирует новый пустой список перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new ConcurrentCustomArrayList<>();
+    }
+
+    /**
+     * Тест проверяет добавление, получение, удаление и очистку.
+     */
+    @Test
+    public void testBasicOperations() {
+        assertTrue(list.addAll(Arrays.asList(1, 2, 3)));
+        assertTrue(list.addAll(1, Arrays.asList(10, 11)));
+        assertFalse(list.add(null));
+        assertEquals(5, list.size());
+        assertEquals(Integer.valueOf(10), list.get(1));
+        assertTrue(list.contains(11));
+        assertTrue(list.remove(10));
+        assertFalse(list.remove(10));
+        assertEquals(Integer.valueOf(11), list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    /**
+     * Тест проверяет, что итератор обходит снимок списка на момент создания
+     * и не выбрасывает исключений при изменении списка во время обхода.
+     */
+    @Test
+    public void testIteratorSeesSnapshot() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        Iterator<Integer> iterator = list.iterator();
+        list.remove(2);
+        list.add(4);
+        List<Integer> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+        assertEquals(Arrays.asList(1, 2, 3), seen);
+        assertEquals(8, list.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * Тест проверяет, что одновременное добавление из нескольких потоков не теряет
+     * элементов, а читатели всегда видят непустые элементы в пределах размера.
+     */
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        int threads = 4;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    list.add(base + i);
+                }
+                return null;
+            }));
+        }
+        Future<?> reader = executor.submit(() -> {
+            start.await();
+            while (list.size() < threads * perThread) {
+                int size = list.size();
+                if (size > 0) {
+                    assertNotNull(list.get(size - 1));
+                }
+            }
+            return null;
+        });
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        reader.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertEquals(threads * perThread, list.size());
+        long sum = list.stream().mapToLong(Integer::longValue).sum();
+        long n = (long) threads * perThread;
+        assertEquals(n * (n - 1) / 2, sum);
+    }
+
+    /**
+     * Тест проверяет пакетное удаление и изоляцию ранее созданного итератора от него.
+     */
+    @Test
+    public void testBulkRemove() {
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5, 6));
+        Iterator<Integer> iterator = list.iterator();
+        assertTrue(list.removeIf(value -> value % 2 == 0));
+        list.removeRange(0, 1);
+        assertEquals(Arrays.asList(3, 5), Arrays.asList(list.get(0), list.get(1)));
+        assertEquals(2, list.size());
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(6, count);
+    }
+
+    /**
+     * Тест проверяет, что снимок не видит последующих изменений и неизменяем.
+     */
+    @Test
+    public void testSnapshot() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        CustomArrayList<Integer> snapshot = list.snapshot();
+        list.add(4);
+        list.remove(1);
+        assertEquals(3, snapshot.size());
+        assertEquals(Integer.valueOf(1), snapshot.get(0));
+        assertFalse(snapshot.contains(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(snapshot.size()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(5));
+    }
+}
@@ -1,11 +1,26 @@
+import com.edu.ArrayPool;
 import com.edu.CustomArrayList;
 import com.edu.DefaultCustomArrayList;
+import com.edu.GrowthStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -227,4 +242,426 @@ public class DefaultCustomArrayListTest {
             assertEquals(Integer.valueOf(i + 1), list.get(i));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Тест проверяет, что итератор обнаруживает изменение списка во время обхода
+     * и выбрасывает {@link ConcurrentModificationException}, а после конца списка —
+     * {@link NoSuchElementException}.
+     */
+    @Test
+    public void testIteratorFailFast() {
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(1, iterator.next());
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        Iterator<Integer> exhausted = list.iterator();
+        exhausted.next();
+        exhausted.next();
+        exhausted.next();
+        assertThrows(NoSuchElementException.class, exhausted::next);
+    }
+
+    /**
+     * Тест проверяет работу последовательного и параллельного потоков,
+     * а также характеристики и равномерное разбиение сплитератора.
+     */
+    @Test
+    public void testStreamAndSpliterator() {
+        for (int i = 1; i <= 1000; i++) {
+            list.add(i);
+        }
+        assertEquals(500500, list.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(500500, list.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList()),
+                list.parallelStream().collect(Collectors.toList()));
+
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.ORDERED | Spliterator.NONNULL));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(500, prefix.estimateSize());
+        assertEquals(500, spliterator.estimateSize());
+
+        list.clear();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(value -> { }));
+        assertThrows(ConcurrentModificationException.class, () -> prefix.tryAdvance(value -> { }));
+    }
+
+    /**
+     * Тест проверяет пакетное добавление: вставку коллекции по индексу,
+     * добавление диапазона массива, добавление списка в самого себя и однократное расширение массива под весь пакет.
+     */
+    @Test
+    public void testBulkAddAll() throws NoSuchFieldException, IllegalAccessException {
+        list.addAll(Arrays.asList(1, 2, 5));
+        assertTrue(list.addAll(2, Arrays.asList(3, 4)));
+        assertTrue(list.addAll(new Integer[]{0, 6, 7, 0}, 1, 3));
+        assertFalse(list.addAll(new Integer[]{1}, 0, 0));
+        assertEquals(7, list.size());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(Integer.valueOf(i + 1), list.get(i));
+        }
+
+        assertTrue(list.addAllFrom(list));
+        assertEquals(14, list.size());
+        assertEquals(Integer.valueOf(7), list.get(6));
+        assertEquals(Integer.valueOf(1), list.get(7));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(15, Arrays.asList(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(new Integer[]{1}, 0, 2));
+        assertThrows(NullPointerException.class, () -> list.addAll(0, Arrays.asList(1, null)));
+        assertEquals(14, list.size());
+
+        CustomArrayList<Integer> big = new DefaultCustomArrayList<>();
+        big.addAll(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        Field elementDataField = big.getClass().getDeclaredField("elementData");
+        elementDataField.setAccessible(true);
+        assertEquals(1000, ((Object[]) elementDataField.get(big)).length);
+    }
+
+    /**
+     * Тест проверяет, что список, созданный из пустого массива или с нулевой ёмкостью,
+     * корректно растёт при добавлении элементов.
+     */
+    @Test
+    public void testAddToZeroCapacityList() {
+        CustomArrayList<Integer> fromEmptyArray = new DefaultCustomArrayList<>(new Integer[0]);
+        assertTrue(fromEmptyArray.add(1));
+        assertTrue(fromEmptyArray.add(2));
+        assertEquals(2, fromEmptyArray.size());
+
+        CustomArrayList<Integer> zeroCapacity = new DefaultCustomArrayList<>(0);
+        assertTrue(zeroCapacity.add(1));
+        assertEquals(Integer.valueOf(1), zeroCapacity.get(0));
+
+        assertThrows(IllegalArgumentException.class, () -> new DefaultCustomArrayList<Integer>(-1));
+    }
+
+    /**
+     * Тест проверяет управление ёмкостью: {@link DefaultCustomArrayList#ensureCapacity(int)},
+     * {@link DefaultCustomArrayList#trimToSize()} и различные стратегии роста.
+     */
+    @Test
+    public void testCapacityAndGrowthStrategy() {
+        DefaultCustomArrayList<Integer> doubling = new DefaultCustomArrayList<>(4);
+        doubling.ensureCapacity(100);
+        assertEquals(100, doubling.capacity());
+        doubling.add(1);
+        doubling.trimToSize();
+        assertEquals(1, doubling.capacity());
+        assertEquals(Integer.valueOf(1), doubling.get(0));
+
+        DefaultCustomArrayList<Integer> oneAndHalf = new DefaultCustomArrayList<>(10, GrowthStrategy.oneAndHalf());
+        for (int i = 0; i < 11; i++) {
+            oneAndHalf.add(i);
+        }
+        assertEquals(15, oneAndHalf.capacity());
+
+        DefaultCustomArrayList<Integer> additive = new DefaultCustomArrayList<>(2, GrowthStrategy.additive(3));
+        for (int i = 0; i < 3; i++) {
+            additive.add(i);
+        }
+        assertEquals(5, additive.capacity());
+
+        assertEquals(GrowthStrategy.MAX_ARRAY_SIZE,
+                GrowthStrategy.doubling().newCapacity(GrowthStrategy.MAX_ARRAY_SIZE - 1, GrowthStrategy.MAX_ARRAY_SIZE));
+        assertEquals(GrowthStrategy.MAX_ARRAY_SIZE,
+                GrowthStrategy.oneAndHalf().newCapacity(1_500_000_000, 1_500_000_001));
+        assertThrows(IllegalArgumentException.class, () -> GrowthStrategy.multiplying(1.0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthStrategy.additive(0));
+    }
+
+    /**
+     * Тест проверяет пакетное удаление: {@link CustomArrayList#removeIf},
+     * {@link CustomArrayList#removeAll}, {@link CustomArrayList#retainAll}
+     * и {@link CustomArrayList#removeRange}.
+     */
+    @Test
+    public void testBulkRemove() {
+        list.addAll(IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+        assertTrue(list.removeIf(value -> value % 2 == 0));
+        assertFalse(list.removeIf(value -> value > 100));
+        assertEquals(10, list.size());
+        assertEquals(Integer.valueOf(1), list.get(0));
+        assertEquals(Integer.valueOf(19), list.get(9));
+
+        assertTrue(list.removeAll(new HashSet<>(Arrays.asList(1, 3, 42))));
+        assertTrue(list.retainAll(Arrays.asList(5, 7, 9, 11, 13)));
+        assertEquals(Arrays.asList(5, 7, 9, 11, 13), list.stream().collect(Collectors.toList()));
+
+        list.removeRange(1, 3);
+        assertEquals(Arrays.asList(5, 11, 13), list.stream().collect(Collectors.toList()));
+        list.removeRange(0, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 4));
+        assertEquals(3, list.size());
+    }
+
+    /**
+     * Тест проверяет, что исключение в предикате {@link CustomArrayList#removeIf}
+     * оставляет список согласованным: уже удалённые элементы удалены, остальные сохранены,
+     * а освободившиеся ячейки массива обнулены.
+     */
+    @Test
+    public void testRemoveIfKeepsListConsistentOnException() throws NoSuchFieldException, IllegalAccessException {
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if (value == 4) {
+                throw new IllegalStateException();
+            }
+            return value == 2;
+        }));
+        assertEquals(Arrays.asList(1, 3, 4, 5), list.stream().collect(Collectors.toList()));
+
+        Field elementDataField = list.getClass().getDeclaredField("elementData");
+        elementDataField.setAccessible(true);
+        assertNull(((Object[]) elementDataField.get(list))[4]);
+
+        for (int i = 6; i <= 10; i++) {
+            list.add(i);
+        }
+        assertThrows(ConcurrentModificationException.class, () -> list.removeIf(value -> {
+            if (value == 3) {
+                for (int i = 0; i < 20; i++) {
+                    list.add(100 + i);
+                }
+            }
+            return value == 1;
+        }));
+        assertEquals(29, list.size());
+        assertEquals(Arrays.asList(1, 3, 4, 5, 6, 7, 8, 9, 10, 100),
+                list.stream().limit(10).collect(Collectors.toList()));
+    }
+
+    /**
+     * Тест проверяет параллельные операции на собственном пуле с маленьким порогом,
+     * чтобы список делился на много диапазонов.
+     */
+    @Test
+    public void testParallelOperations() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DefaultCustomArrayList<Integer> parallel = new DefaultCustomArrayList<>();
+            parallel.setForkJoinPool(pool);
+            parallel.setParallelThreshold(16);
+            parallel.addAll(IntStream.range(0, 10_000).map(i -> i % 5_000).boxed().collect(Collectors.toList()));
+
+            assertTrue(parallel.parallelContains(4_999));
+            assertFalse(parallel.parallelContains(5_000));
+            assertFalse(parallel.parallelContains(null));
+            assertEquals(1_234, parallel.parallelIndexOf(1_234));
+            assertEquals(0, parallel.parallelIndexOf(0));
+            assertEquals(-1, parallel.parallelIndexOf(-1));
+
+            AtomicLong sum = new AtomicLong();
+            parallel.parallelForEach(sum::addAndGet);
+            assertEquals(2L * (4_999L * 5_000L / 2), sum.get());
+            assertEquals(Integer.valueOf((int) sum.get()), parallel.reduce(0, Integer::sum));
+
+            Iterator<Integer> iterator = parallel.iterator();
+            iterator.next();
+            parallel.replaceAll(value -> value * 2);
+            assertEquals(Integer.valueOf(2 * 4_999), parallel.get(4_999));
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+            assertThrows(NullPointerException.class, () -> parallel.replaceAll(value -> null));
+            assertThrows(IllegalArgumentException.class, () -> parallel.setParallelThreshold(0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Тест сравнивает {@link DefaultCustomArrayList#parallelSort} с {@link Collections#sort}
+     * и проверяет устойчивость сортировки.
+     */
+    @Test
+    public void testParallelSort() {
+        DefaultCustomArrayList<Integer> parallel = new DefaultCustomArrayList<>();
+        parallel.setParallelThreshold(8);
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(1_000);
+            expected.add(value);
+            parallel.add(value);
+        }
+        Comparator<Integer> byTens = Comparator.comparingInt(value -> value / 10);
+        expected.sort(byTens);
+        parallel.parallelSort(byTens);
+        assertEquals(expected, parallel.stream().collect(Collectors.toList()));
+
+        Collections.sort(expected);
+        parallel.parallelSort(Comparator.naturalOrder());
+        assertEquals(expected, parallel.stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Тест проверяет, что снимок не меняется при последующих изменениях списка,
+     * а сам неизменяем.
+     */
+    @Test
+    public void testSnapshotIsolation() {
+        DefaultCustomArrayList<Integer> source = new DefaultCustomArrayList<>();
+        source.addAll(Arrays.asList(5, 4, 3, 2, 1));
+        CustomArrayList<Integer> snapshot = source.snapshot();
+
+        source.add(0);
+        source.remove(3);
+        source.replaceAll(value -> value * 10);
+        source.parallelSort(Comparator.naturalOrder());
+        CustomArrayList<Integer> second = source.snapshot();
+        source.removeIf(value -> value > 20);
+        source.removeRange(0, 1);
+
+        assertEquals(Arrays.asList(5, 4, 3, 2, 1), snapshot.stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(0, 10, 20, 40, 50), second.stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(10, 20), source.stream().collect(Collectors.toList()));
+        assertTrue(snapshot.contains(3));
+        assertSame(snapshot, snapshot.snapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.removeIf(value -> true));
+        assertThrows(UnsupportedOperationException.class, snapshot::clear);
+    }
+
+    /**
+     * Тест проверяет, что снимок не видит элементов, добавленных в общий массив после его создания.
+     */
+    @Test
+    public void testSnapshotHidesLaterAppends() {
+        DefaultCustomArrayList<String> source = new DefaultCustomArrayList<>();
+        CustomArrayList<String> empty = source.snapshot();
+        source.add("a");
+        source.add("b");
+        CustomArrayList<String> snapshot = source.snapshot();
+        source.add("c");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(snapshot.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> source.get(source.size()));
+        assertEquals("b", snapshot.get(1));
+    }
+
+    /**
+     * Тест проверяет, что снимок создаётся без копирования, добавление в конец не копирует
+     * разделяемый массив, а первое изменение элементов копирует его ровно один раз.
+     */
+    @Test
+    public void testSnapshotCopiesLazily() throws NoSuchFieldException, IllegalAccessException {
+        DefaultCustomArrayList<Integer> source = new DefaultCustomArrayList<>(16);
+        source.addAll(Arrays.asList(1, 2, 3));
+        Field elementDataField = DefaultCustomArrayList.class.getDeclaredField("elementData");
+        elementDataField.setAccessible(true);
+        Object shared = elementDataField.get(source);
+
+        CustomArrayList<Integer> snapshot = source.snapshot();
+        source.add(4);
+        assertSame(shared, elementDataField.get(source));
+        source.remove(4);
+        assertSame(shared, elementDataField.get(source));
+
+        source.remove(1);
+        Object copy = elementDataField.get(source);
+        assertNotSame(shared, copy);
+        source.remove(2);
+        assertSame(copy, elementDataField.get(source));
+        assertEquals(Arrays.asList(1, 2, 3), snapshot.stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Тест проверяет ленивые представления: подсписок, преобразование и фильтр,
+     * их цепочку и материализацию.
+     */
+    @Test
+    public void testViews() {
+        list.addAll(IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        CustomArrayList<Integer> sub = list.subList(2, 8);
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, 7), sub.stream().collect(Collectors.toList()));
+        assertEquals(Integer.valueOf(4), sub.get(2));
+        assertTrue(sub.contains(7));
+        assertFalse(sub.contains(8));
+        assertEquals(Arrays.asList(3, 4), sub.subList(1, 3).stream().collect(Collectors.toList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(5, 11));
+        assertThrows(UnsupportedOperationException.class, () -> sub.add(1));
+
+        CustomArrayList<String> pipeline = sub
+                .filterView(value -> value % 2 == 0)
+                .mapView(value -> "#" + value)
+                .filterView(value -> !value.equals("#4"));
+        assertEquals(Arrays.asList("#2", "#6"), pipeline.stream().collect(Collectors.toList()));
+        assertEquals(2, pipeline.size());
+        assertEquals("#6", pipeline.get(1));
+        assertTrue(pipeline.contains("#2"));
+        assertFalse(pipeline.contains("#4"));
+
+        CustomArrayList<String> materialized = pipeline.materialize();
+        assertTrue(materialized.add("#8"));
+        assertEquals(Arrays.asList("#2", "#6", "#8"), materialized.stream().collect(Collectors.toList()));
+
+        list.add(10);
+        assertThrows(ConcurrentModificationException.class, () -> sub.get(0));
+        assertEquals(11, list.materialize().size());
+    }
+
+    /**
+     * Тест проверяет режим повторного использования: {@link DefaultCustomArrayList#clear()}
+     * сохраняет ёмкость и массив, но не затрагивает массив, разделяемый со снимком.
+     */
+    @Test
+    public void testClearInReuseMode() throws NoSuchFieldException, IllegalAccessException {
+        DefaultCustomArrayList<Integer> reused = new DefaultCustomArrayList<>();
+        reused.setReuseOnClear(true);
+        reused.addAll(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        int capacity = reused.capacity();
+        Field elementDataField = DefaultCustomArrayList.class.getDeclaredField("elementData");
+        elementDataField.setAccessible(true);
+        Object[] elementData = (Object[]) elementDataField.get(reused);
+
+        reused.clear();
+        assertTrue(reused.isEmpty());
+        assertEquals(capacity, reused.capacity());
+        assertSame(elementData, elementDataField.get(reused));
+        assertNull(elementData[99]);
+
+        reused.addAll(Arrays.asList(1, 2, 3));
+        CustomArrayList<Integer> snapshot = reused.snapshot();
+        reused.clear();
+        assertNotSame(elementData, elementDataField.get(reused));
+        assertEquals(capacity, reused.capacity());
+        assertEquals(Arrays.asList(1, 2, 3), snapshot.stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Тест проверяет, что при росте и очистке списка массивы возвращаются в пул
+     * и повторно выдаются из него.
+     */
+    @Test
+    public void testArrayPool() {
+        ArrayPool pool = new ArrayPool(1 << 10, 2);
+        DefaultCustomArrayList<Integer> pooled = new DefaultCustomArrayList<>(0);
+        pooled.setArrayPool(pool);
+        pooled.addAll(IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+        assertEquals(32, pooled.capacity());
+        pooled.clear();
+        assertEquals(1, pool.pooledCount(32));
+        assertEquals(0, pool.pooledCount(16));
+
+        pooled.addAll(IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+        assertEquals(0, pool.pooledCount(32));
+        assertEquals(1, pool.pooledCount(16));
+        assertEquals(Integer.valueOf(19), pooled.get(19));
+
+        CustomArrayList<Integer> snapshot = pooled.snapshot();
+        pooled.clear();
+        assertEquals(0, pool.pooledCount(32));
+        assertEquals(20, snapshot.size());
+
+        Object[] array = pool.acquire(1 << 11);
+        assertEquals(1 << 11, array.length);
+        assertFalse(pool.release(array));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayPool(8, 1));
+    }
+}
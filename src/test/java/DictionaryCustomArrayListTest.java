@@ -0,0 +1,154 @@
+import com.edu.DictionaryCustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link DictionaryCustomArrayList}.
+ * Проверяется совпадение поведения со списком ссылок и расширение кодов
+ * с {@code byte} до {@code short} и {@code int}.
+ */
+public class DictionaryCustomArrayListTest {
+
+    private DictionaryCustomArrayList<String> list;
+
+    /**
+     * Инициализирует новый пустой список перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new DictionaryCustomArrayList<>();
+    }
+
+    /**
+     * Тест проверяет добавление, чтение, поиск и удаление повторяющихся значений.
+     */
+    @Test
+    public void testBasicOperations() {
+        List<String> expected = new ArrayList<>();
+        String[] colors = {"red", "green", "blue"};
+        for (int i = 0; i < 30; i++) {
+            String color = colors[i % colors.length];
+            assertTrue(list.add(color));
+            expected.add(color);
+        }
+        assertFalse(list.add(null));
+        assertEquals(30, list.size());
+        assertEquals(3, list.distinctCount());
+        assertEquals(1, list.codeWidth());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertTrue(list.contains("blue"));
+        assertFalse(list.contains("black"));
+        assertFalse(list.contains(null));
+        assertEquals(1, list.indexOf("green"));
+
+        assertTrue(list.remove("red"));
+        expected.remove("red");
+        assertFalse(list.remove("black"));
+        assertEquals(expected, list.stream().collect(Collectors.toList()));
+        assertEquals(0, list.indexOf("green"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(29));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    /**
+     * Тест проверяет, что коды расширяются до {@code short} и {@code int}
+     * без потери ранее добавленных элементов.
+     */
+    @Test
+    public void testCodeWidening() {
+        DictionaryCustomArrayList<Integer> numbers = new DictionaryCustomArrayList<>();
+        int distinct = (1 << 16) + 10;
+        for (int i = 0; i < distinct; i++) {
+            numbers.add(i);
+            numbers.add(0);
+            if (i == 255) {
+                assertEquals(1, numbers.codeWidth());
+            } else if (i == 256) {
+                assertEquals(2, numbers.codeWidth());
+            } else if (i == (1 << 16) - 1) {
+                assertEquals(2, numbers.codeWidth());
+            }
+        }
+        assertEquals(4, numbers.codeWidth());
+        assertEquals(distinct, numbers.distinctCount());
+        assertEquals(2 * distinct, numbers.size());
+        for (int i = 0; i < distinct; i++) {
+            assertEquals(Integer.valueOf(i), numbers.get(2 * i));
+            assertEquals(Integer.valueOf(0), numbers.get(2 * i + 1));
+        }
+        assertEquals(2 * 300, numbers.indexOf(300));
+        assertEquals(2 * 65540, numbers.indexOf(65540));
+        assertTrue(numbers.contains(distinct - 1));
+        assertFalse(numbers.contains(distinct));
+    }
+
+    /**
+     * Тест проверяет пакетное добавление и очистку словаря.
+     */
+    @Test
+    public void testAddAllAndClear() {
+        assertTrue(list.addAll(Arrays.asList("a", "b", "a", "c")));
+        assertFalse(list.addAll(new ArrayList<>()));
+        assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList("d", null)));
+        assertEquals(4, list.size());
+        assertEquals(Arrays.asList("a", "b", "a", "c"), list.stream().collect(Collectors.toList()));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.distinctCount());
+        assertFalse(list.contains("a"));
+        list.add("z");
+        assertEquals("z", list.get(0));
+    }
+
+    /**
+     * Тест проверяет методы интерфейса по умолчанию и итератор.
+     */
+    @Test
+    public void testDefaultMethodsAndIterator() {
+        list.addAll(Arrays.asList("x", "y", "x", "z", "y"));
+        assertTrue(list.removeIf("x"::equals));
+        assertEquals(Arrays.asList("y", "z", "y"), list.stream().collect(Collectors.toList()));
+        assertEquals(2, list.distinctCount());
+
+        Iterator<String> iterator = list.iterator();
+        assertEquals("y", iterator.next());
+        list.add("w");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    /**
+     * Тест проверяет, что вставка по индексу через реализацию по умолчанию при сбое
+     * добавления восстанавливает прежнее содержимое списка.
+     */
+    @Test
+    public void testAddAllAtIndexRestoresTailOnFailure() {
+        DictionaryCustomArrayList<String> failing = new DictionaryCustomArrayList<String>() {
+            @Override
+            public boolean addAll(Collection<? extends String> c) {
+                if (c.contains("boom")) {
+                    throw new IllegalStateException();
+                }
+                return super.addAll(c);
+            }
+        };
+        failing.addAll(Arrays.asList("a", "b", "c", "d"));
+        assertTrue(failing.addAll(1, Arrays.asList("x", "y")));
+        assertEquals(Arrays.asList("a", "x", "y", "b", "c", "d"), failing.stream().collect(Collectors.toList()));
+
+        assertThrows(IllegalStateException.class, () -> failing.addAll(2, Arrays.asList("z", "boom")));
+        assertEquals(Arrays.asList("a", "x", "y", "b", "c", "d"), failing.stream().collect(Collectors.toList()));
+    }
+}
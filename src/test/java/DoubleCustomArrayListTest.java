@@ -0,0 +1,157 @@
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import com.edu.DoubleCustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link DoubleCustomArrayList}.
+ * Проверяют методы без упаковки, совместимость с контрактом {@link CustomArrayList}
+ * и преобразования в обобщённый список и обратно.
+ */
+public class DoubleCustomArrayListTest {
+
+    private DoubleCustomArrayList list;
+
+    /**
+     * Инициализирует новый пустой список перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new DoubleCustomArrayList();
+    }
+
+    /**
+     * Тест проверяет добавление и получение значений без упаковки,
+     * а также рост массива за пределы начальной ёмкости.
+     */
+    @Test
+    public void testAddAndGetDouble() {
+        for (int i = 0; i < 25; i++) {
+            assertTrue(list.add(i * 2.0));
+        }
+        assertEquals(25, list.size());
+        assertEquals(0, list.getDouble(0));
+        assertEquals(48, list.getDouble(24));
+        assertEquals(Double.valueOf(48.0), list.get(24));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(25));
+    }
+
+    /**
+     * Тест проверяет поиск и удаление значений, а также поведение методов
+     * контракта {@link CustomArrayList} с {@code null}.
+     */
+    @Test
+    public void testContainsAndRemove() {
+        list.addAll(new double[]{1, 2, 3, 2}, 0, 4);
+        assertTrue(list.contains(2));
+        assertFalse(list.contains(5));
+        assertFalse(list.contains((Double) null));
+        assertFalse(list.add((Double) null));
+        assertTrue(list.removeDouble(2));
+        assertArrayEquals(new double[]{1, 3, 2}, list.toArray());
+        assertTrue(list.remove(Double.valueOf(2.0)));
+        assertFalse(list.removeDouble(2));
+        assertArrayEquals(new double[]{1, 3}, list.toArray());
+
+        list.add(Double.NaN);
+        assertEquals(2, list.indexOf(Double.NaN));
+        assertFalse(list.contains(-0.0));
+        assertTrue(list.contains(Double.valueOf(Double.NaN)));
+    }
+
+    /**
+     * Тест проверяет обход списка: {@code forEach} без упаковки, итератор,
+     * потоки и обнаружение изменения списка во время обхода.
+     */
+    @Test
+    public void testIteration() {
+        list.addAll(Arrays.asList(1.0, 2.0, 3.0, 4.0));
+        double[] sum = new double[1];
+        list.forEachDouble(value -> sum[0] += value);
+        list.forEach(value -> sum[0] += value);
+        assertEquals(20, sum[0]);
+        assertEquals(10, list.doubleStream().sum());
+        assertEquals(10, list.parallelDoubleStream().sum());
+
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+        assertEquals(1, iterator.nextDouble());
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, iterator::nextDouble);
+    }
+
+    /**
+     * Тест проверяет преобразования между {@link DoubleCustomArrayList}
+     * и {@link DefaultCustomArrayList}.
+     */
+    @Test
+    public void testConversions() {
+        list.addAll(new double[]{7, 8, 9}, 0, 3);
+        DefaultCustomArrayList<Double> generic = list.toGenericList();
+        assertEquals(3, generic.size());
+        assertEquals(Double.valueOf(9.0), generic.get(2));
+        assertTrue(generic.add(10.0));
+
+        DoubleCustomArrayList back = DoubleCustomArrayList.from(generic);
+        assertArrayEquals(new double[]{7, 8, 9, 10}, back.toArray());
+
+        assertTrue(back.addAllFrom(list));
+        assertArrayEquals(new double[]{7, 8, 9, 10, 7, 8, 9}, back.toArray());
+    }
+
+    /**
+     * Тест проверяет, что очистка сохраняет ёмкость массива.
+     */
+    @Test
+    public void testClearKeepsCapacity() {
+        list.ensureCapacity(100);
+        list.add(1);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(100, list.capacity());
+        list.trimToSize();
+        assertEquals(0, list.capacity());
+        assertTrue(list.add(3));
+        assertEquals(3, list.getDouble(0));
+    }
+
+    /**
+     * Тест проверяет, что сплитератор обнаруживает замену массива более коротким
+     * и выбрасывает {@link ConcurrentModificationException} до чтения элементов.
+     */
+    @Test
+    public void testSpliteratorFailFastAfterTrim() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Spliterator.OfDouble spliterator = list.spliterator();
+        Spliterator.OfDouble prefix = spliterator.trySplit();
+        list.clear();
+        list.trimToSize();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining((double value) -> { }));
+        assertThrows(ConcurrentModificationException.class, () -> prefix.tryAdvance((double value) -> { }));
+    }
+
+    /**
+     * Тест проверяет вставку коллекции по индексу в начало, середину и конец списка.
+     */
+    @Test
+    public void testAddAllAtIndex() {
+        list.addAll(Arrays.asList(1.0, 4.0, 5.0));
+        assertTrue(list.addAll(1, Arrays.asList(2.0, 3.0)));
+        assertTrue(list.addAll(0, Arrays.asList(0.0)));
+        assertTrue(list.addAll(6, Arrays.asList(6.0)));
+        assertFalse(list.addAll(2, Arrays.asList()));
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(8, Arrays.asList(7.0)));
+        assertThrows(NullPointerException.class, () -> list.addAll(0, Arrays.asList(7.0, null)));
+        assertEquals(7, list.size());
+    }
+}
@@ -0,0 +1,89 @@
+import com.edu.IndexedCustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link IndexedCustomArrayList}.
+ * Проверяют, что хеш-индекс остаётся согласованным со списком после
+ * добавлений, удалений, вставок в середину и очистки.
+ */
+public class IndexedCustomArrayListTest {
+
+    private IndexedCustomArrayList<Integer> list;
+
+    /**
+     * Инициализирует новый пустой список перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new IndexedCustomArrayList<>();
+    }
+
+    /**
+     * Тест проверяет поиск первого вхождения и подсчёт повторяющихся элементов.
+     */
+    @Test
+    public void testIndexOfWithDuplicates() {
+        list.addAll(Arrays.asList(5, 7, 5, 9, 7));
+        assertEquals(0, list.indexOf(5));
+        assertEquals(1, list.indexOf(7));
+        assertEquals(2, list.occurrences(5));
+        assertEquals(3, list.distinctCount());
+        assertTrue(list.remove(5));
+        assertEquals(1, list.indexOf(5));
+        assertEquals(0, list.indexOf(7));
+        assertEquals(2, list.indexOf(9));
+        assertFalse(list.contains(null));
+        assertFalse(list.remove(42));
+    }
+
+    /**
+     * Тест проверяет вставку в середину и очистку списка.
+     */
+    @Test
+    public void testInsertAndClear() {
+        list.addAll(Arrays.asList(1, 2, 3));
+        assertTrue(list.addAll(1, Arrays.asList(3, 4)));
+        assertEquals(1, list.indexOf(3));
+        assertEquals(2, list.indexOf(4));
+        assertEquals(3, list.indexOf(2));
+        list.clear();
+        assertFalse(list.contains(1));
+        assertEquals(0, list.distinctCount());
+        assertTrue(list.add(1));
+        assertEquals(0, list.indexOf(1));
+    }
+
+    /**
+     * Тест сравнивает индексированный список с {@link ArrayList} на случайной
+     * последовательности добавлений и удалений.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            Integer value = random.nextInt(50);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), list.remove(value));
+            } else {
+                expected.add(value);
+                list.add(value);
+            }
+            Integer probe = random.nextInt(50);
+            assertEquals(expected.indexOf(probe), list.indexOf(probe));
+            assertEquals(expected.contains(probe), list.contains(probe));
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import com.edu.IntCustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link IntCustomArrayList}.
+ * Проверяют методы без упаковки, совместимость с контрактом {@link CustomArrayList}
+ * и преобразования в обобщённый список и обратно.
+ */
+public class IntCustomArrayListTest {
+
+    private IntCustomArrayList list;
+
+    /**
+     * Инициализирует новый пустой список перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new IntCustomArrayList();
+    }
+
+    /**
+     * Тест проверяет добавление и получение значений без упаковки,
+     * а также рост массива за пределы начальной ёмкости.
+     */
+    @Test
+    public void testAddAndGetInt() {
+        for (int i = 0; i < 25; i++) {
+            assertTrue(list.add(i * 2));
+        }
+        assertEquals(25, list.size());
+        assertEquals(0, list.getInt(0));
+        assertEquals(48, list.getInt(24));
+        assertEquals(Integer.valueOf(48), list.get(24));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(25));
+    }
+
+    /**
+     * Тест проверяет поиск и удаление значений, а также поведение методов
+     * контракта {@link CustomArrayList} с {@code null}.
+     */
+    @Test
+    public void testContainsAndRemove() {
+        list.addAll(new int[]{1, 2, 3, 2}, 0, 4);
+        assertTrue(list.contains(2));
+        assertFalse(list.contains(5));
+        assertFalse(list.contains((Integer) null));
+        assertFalse(list.add((Integer) null));
+        assertTrue(list.removeInt(2));
+        assertArrayEquals(new int[]{1, 3, 2}, list.toArray());
+        assertTrue(list.remove(Integer.valueOf(2)));
+        assertFalse(list.removeInt(2));
+        assertArrayEquals(new int[]{1, 3}, list.toArray());
+    }
+
+    /**
+     * Тест проверяет обход списка: {@code forEach} без упаковки, итератор,
+     * потоки и обнаружение изменения списка во время обхода.
+     */
+    @Test
+    public void testIteration() {
+        list.addAll(Arrays.asList(1, 2, 3, 4));
+        int[] sum = new int[1];
+        list.forEachInt(value -> sum[0] += value);
+        list.forEach(value -> sum[0] += value);
+        assertEquals(20, sum[0]);
+        assertEquals(10, list.intStream().sum());
+        assertEquals(10, list.parallelIntStream().sum());
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        assertEquals(1, iterator.nextInt());
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    /**
+     * Тест проверяет преобразования между {@link IntCustomArrayList}
+     * и {@link DefaultCustomArrayList}.
+     */
+    @Test
+    public void testConversions() {
+        list.addAll(new int[]{7, 8, 9}, 0, 3);
+        DefaultCustomArrayList<Integer> generic = list.toGenericList();
+        assertEquals(3, generic.size());
+        assertEquals(Integer.valueOf(9), generic.get(2));
+        assertTrue(generic.add(10));
+
+        IntCustomArrayList back = IntCustomArrayList.from(generic);
+        assertArrayEquals(new int[]{7, 8, 9, 10}, back.toArray());
+
+        assertTrue(back.addAllFrom(list));
+        assertArrayEquals(new int[]{7, 8, 9, 10, 7, 8, 9}, back.toArray());
+    }
+
+    /**
+     * Тест проверяет, что очистка сохраняет ёмкость массива.
+     */
+    @Test
+    public void testClearKeepsCapacity() {
+        list.ensureCapacity(100);
+        list.add(1);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(100, list.capacity());
+        list.trimToSize();
+        assertEquals(0, list.capacity());
+        assertTrue(list.add(3));
+        assertEquals(3, list.getInt(0));
+    }
+
+    /**
+     * Тест проверяет, что сплитератор обнаруживает замену массива более коротким
+     * и выбрасывает {@link ConcurrentModificationException} до чтения элементов.
+     */
+    @Test
+    public void testSpliteratorFailFastAfterTrim() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Spliterator.OfInt spliterator = list.spliterator();
+        Spliterator.OfInt prefix = spliterator.trySplit();
+        list.clear();
+        list.trimToSize();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining((int value) -> { }));
+        assertThrows(ConcurrentModificationException.class, () -> prefix.tryAdvance((int value) -> { }));
+    }
+
+    /**
+     * Тест проверяет вставку коллекции по индексу в начало, середину и конец списка.
+     */
+    @Test
+    public void testAddAllAtIndex() {
+        list.addAll(Arrays.asList(1, 4, 5));
+        assertTrue(list.addAll(1, Arrays.asList(2, 3)));
+        assertTrue(list.addAll(0, Arrays.asList(0)));
+        assertTrue(list.addAll(6, Arrays.asList(6)));
+        assertFalse(list.addAll(2, Arrays.asList()));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(8, Arrays.asList(7)));
+        assertThrows(NullPointerException.class, () -> list.addAll(0, Arrays.asList(7, null)));
+        assertEquals(7, list.size());
+    }
+}
@@ -0,0 +1,140 @@
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import com.edu.ElementCodec;
+import com.edu.ListChannelCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link ListChannelCodec}.
+ * Маленький буфер писателя разбивает список на много кадров.
+ */
+public class ListChannelCodecTest {
+
+    private static byte[] write(ListChannelCodec<Long> codec, CustomArrayList<Long> list) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(list, Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static CustomArrayList<Long> sequence(int size) {
+        CustomArrayList<Long> list = new DefaultCustomArrayList<>();
+        for (long i = 0; i < size; i++) {
+            list.add(i * 31 - 7);
+        }
+        return list;
+    }
+
+    /**
+     * Тест проверяет запись и чтение списков разного размера, включая пустой,
+     * а также чтение нескольких списков, записанных в один канал подряд.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        try (ListChannelCodec<Long> codec = new ListChannelCodec<>(ElementCodec.longs(), 256)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            int[] sizes = {0, 1, 28, 29, 1000};
+            for (int size : sizes) {
+                codec.write(sequence(size), Channels.newChannel(bytes));
+            }
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()));
+            for (int size : sizes) {
+                CustomArrayList<Long> read = codec.read(channel);
+                assertEquals(size, read.size());
+                assertEquals(sequence(size).stream().collect(Collectors.toList()),
+                        read.stream().collect(Collectors.toList()));
+            }
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    /**
+     * Тест проверяет, что элементы полученных кадров обрабатываются до того,
+     * как поток дошёл до конца.
+     */
+    @Test
+    public void testStreamingRead() throws IOException {
+        byte[] payload;
+        try (ListChannelCodec<Long> writer = new ListChannelCodec<>(ElementCodec.longs(), 256)) {
+            payload = write(writer, sequence(1000));
+        }
+        byte[] truncated = Arrays.copyOf(payload, payload.length / 2);
+        List<Long> received = new ArrayList<>();
+        try (ListChannelCodec<Long> reader = new ListChannelCodec<>(ElementCodec.longs())) {
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(truncated));
+            assertThrows(EOFException.class, () -> reader.read(channel, received::add));
+        }
+        assertTrue(received.size() > 400, "Получено элементов: " + received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(Long.valueOf(i * 31L - 7), received.get(i));
+        }
+    }
+
+    /**
+     * Тест проверяет отказ при несовпадении кодека и повреждённом потоке.
+     */
+    @Test
+    public void testFormatErrors() throws IOException {
+        byte[] payload;
+        try (ListChannelCodec<Long> writer = new ListChannelCodec<>(ElementCodec.longs())) {
+            payload = write(writer, sequence(10));
+        }
+        try (ListChannelCodec<Double> doubles = new ListChannelCodec<>(ElementCodec.doubles())) {
+            assertThrows(IOException.class,
+                    () -> doubles.read(Channels.newChannel(new ByteArrayInputStream(payload))));
+        }
+        byte[] corrupted = payload.clone();
+        corrupted[0] ^= 1;
+        ListChannelCodec<Long> codec = new ListChannelCodec<>(ElementCodec.longs());
+        assertThrows(IOException.class, () -> codec.read(Channels.newChannel(new ByteArrayInputStream(corrupted))));
+        codec.close();
+        assertThrows(IllegalStateException.class, () -> codec.read(Channels.newChannel(new ByteArrayInputStream(payload))));
+        assertThrows(IllegalArgumentException.class, () -> new ListChannelCodec<>(ElementCodec.ints(), 16));
+    }
+
+    /**
+     * Тест проверяет, что поддельный заголовок с огромным количеством элементов и кадр длиннее
+     * максимального отклоняются без выделения памяти по данным из потока.
+     */
+    @Test
+    public void testForgedHeader() throws IOException {
+        byte[] payload;
+        try (ListChannelCodec<Long> writer = new ListChannelCodec<>(ElementCodec.longs())) {
+            payload = write(writer, sequence(10));
+        }
+        int countOffset = 4 * Integer.BYTES + ElementCodec.longs().name().getBytes(StandardCharsets.UTF_8).length;
+        int frameOffset = countOffset + Long.BYTES;
+        byte[] forged = Arrays.copyOf(payload, frameOffset);
+        ByteBuffer.wrap(forged).order(ByteOrder.LITTLE_ENDIAN).putLong(countOffset, Integer.MAX_VALUE - 8);
+        try (ListChannelCodec<Long> reader = new ListChannelCodec<>(ElementCodec.longs())) {
+            assertThrows(EOFException.class,
+                    () -> reader.read(Channels.newChannel(new ByteArrayInputStream(forged))));
+        }
+
+        byte[] hugeFrame = Arrays.copyOf(payload, frameOffset + Integer.BYTES);
+        ByteBuffer.wrap(hugeFrame).order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(countOffset, Integer.MAX_VALUE - 8)
+                .putInt(frameOffset, 1 << 30);
+        try (ListChannelCodec<Long> reader = new ListChannelCodec<>(ElementCodec.longs(), 256, 1024)) {
+            IOException error = assertThrows(IOException.class,
+                    () -> reader.read(Channels.newChannel(new ByteArrayInputStream(hugeFrame))));
+            assertFalse(error instanceof EOFException);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ListChannelCodec<>(ElementCodec.longs(), 256, 4));
+    }
+}
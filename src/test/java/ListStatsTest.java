@@ -0,0 +1,123 @@
+import com.edu.DefaultCustomArrayList;
+import com.edu.ListStats;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link ListStats} и событий JFR {@link DefaultCustomArrayList}.
+ */
+public class ListStatsTest {
+
+    /**
+     * Отключает глобальную статистику после каждого теста.
+     */
+    @AfterEach
+    public void tearDown() {
+        DefaultCustomArrayList.setGlobalStats(null);
+    }
+
+    /**
+     * Тест проверяет счётчики расширений, сдвигов, копирований при записи и поисков
+     * для статистики, подключённой к списку.
+     */
+    @Test
+    public void testInstanceStats() {
+        ListStats stats = new ListStats();
+        DefaultCustomArrayList<Integer> list = new DefaultCustomArrayList<>(2);
+        list.setStats(stats);
+        list.addAll(Arrays.asList(1, 2));
+        list.add(3);
+        list.add(4);
+        list.add(5);
+        assertEquals(2, stats.growCount());
+        assertEquals(2 + 4, stats.elementsCopiedOnGrow());
+
+        assertTrue(list.contains(1));
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(42));
+        assertEquals(3, stats.scanCount());
+        assertEquals(1 + 4 + 5, stats.elementsScanned());
+        long[] histogram = stats.scanHistogram();
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[2]);
+        assertEquals(1, histogram[3]);
+
+        assertTrue(list.remove(2));
+        assertEquals(1, stats.shiftCount());
+        assertEquals(3, stats.elementsShifted());
+
+        list.snapshot();
+        list.removeRange(0, 1);
+        assertEquals(1, stats.copyOnWriteCount());
+        assertEquals(list.capacity(), stats.elementsCopiedOnWrite());
+
+        stats.reset();
+        assertEquals(0, stats.scanCount());
+        assertEquals(0, stats.scanHistogram()[0]);
+    }
+
+    /**
+     * Тест проверяет, что глобальная статистика собирает события всех списков
+     * без собственной статистики.
+     */
+    @Test
+    public void testGlobalStats() {
+        ListStats global = new ListStats();
+        ListStats own = new ListStats();
+        DefaultCustomArrayList.setGlobalStats(global);
+        DefaultCustomArrayList<Integer> first = new DefaultCustomArrayList<>();
+        DefaultCustomArrayList<Integer> second = new DefaultCustomArrayList<>();
+        DefaultCustomArrayList<Integer> separate = new DefaultCustomArrayList<>();
+        separate.setStats(own);
+        first.contains(1);
+        second.contains(1);
+        separate.contains(1);
+        assertEquals(2, global.scanCount());
+        assertEquals(1, own.scanCount());
+    }
+
+    /**
+     * Тест проверяет, что при записи JFR расширения массива и большие сдвиги порождают события.
+     */
+    @Test
+    public void testJfrEvents(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("list.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.edu.ListGrowth");
+            recording.enable("com.edu.ListLargeCopy");
+            recording.start();
+            DefaultCustomArrayList<Integer> list = new DefaultCustomArrayList<>();
+            list.addAll(IntStream.range(0, 100_000).boxed().collect(Collectors.toList()));
+            list.add(-1);
+            list.remove(0);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent growth = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.edu.ListGrowth"))
+                .filter(event -> event.getInt("size") == 100_000)
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertEquals(200_000, growth.getInt("newCapacity"));
+        RecordedEvent copy = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.edu.ListLargeCopy"))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertEquals("remove", copy.getString("operation"));
+        assertEquals(100_000, copy.getInt("elements"));
+    }
+}
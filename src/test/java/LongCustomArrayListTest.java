@@ -0,0 +1,152 @@
+import com.edu.CustomArrayList;
+import com.edu.DefaultCustomArrayList;
+import com.edu.LongCustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link LongCustomArrayList}.
+ * Проверяют методы без упаковки, совместимость с контрактом {@link CustomArrayList}
+ * и преобразования в обобщённый список и обратно.
+ */
+public class LongCustomArrayListTest {
+
+    private LongCustomArrayList list;
+
+    /**
+     * Инициализирует новый пустой список перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new LongCustomArrayList();
+    }
+
+    /**
+     * Тест проверяет добавление и получение значений без упаковки,
+     * а также рост массива за пределы начальной ёмкости.
+     */
+    @Test
+    public void testAddAndGetLong() {
+        for (int i = 0; i < 25; i++) {
+            assertTrue(list.add(i * 2));
+        }
+        assertEquals(25, list.size());
+        assertEquals(0, list.getLong(0));
+        assertEquals(48, list.getLong(24));
+        assertEquals(Long.valueOf(48), list.get(24));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getLong(25));
+    }
+
+    /**
+     * Тест проверяет поиск и удаление значений, а также поведение методов
+     * контракта {@link CustomArrayList} с {@code null}.
+     */
+    @Test
+    public void testContainsAndRemove() {
+        list.addAll(new long[]{1, 2, 3, 2}, 0, 4);
+        assertTrue(list.contains(2));
+        assertFalse(list.contains(5));
+        assertFalse(list.contains((Long) null));
+        assertFalse(list.add((Long) null));
+        assertTrue(list.removeLong(2));
+        assertArrayEquals(new long[]{1, 3, 2}, list.toArray());
+        assertTrue(list.remove(Long.valueOf(2)));
+        assertFalse(list.removeLong(2));
+        assertArrayEquals(new long[]{1, 3}, list.toArray());
+    }
+
+    /**
+     * Тест проверяет обход списка: {@code forEach} без упаковки, итератор,
+     * потоки и обнаружение изменения списка во время обхода.
+     */
+    @Test
+    public void testIteration() {
+        list.addAll(Arrays.asList(1L, 2L, 3L, 4L));
+        long[] sum = new long[1];
+        list.forEachLong(value -> sum[0] += value);
+        list.forEach(value -> sum[0] += value);
+        assertEquals(20, sum[0]);
+        assertEquals(10, list.longStream().sum());
+        assertEquals(10, list.parallelLongStream().sum());
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        assertEquals(1, iterator.nextLong());
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, iterator::nextLong);
+    }
+
+    /**
+     * Тест проверяет преобразования между {@link LongCustomArrayList}
+     * и {@link DefaultCustomArrayList}.
+     */
+    @Test
+    public void testConversions() {
+        list.addAll(new long[]{7, 8, 9}, 0, 3);
+        DefaultCustomArrayList<Long> generic = list.toGenericList();
+        assertEquals(3, generic.size());
+        assertEquals(Long.valueOf(9), generic.get(2));
+        assertTrue(generic.add(10L));
+
+        LongCustomArrayList back = LongCustomArrayList.from(generic);
+        assertArrayEquals(new long[]{7, 8, 9, 10}, back.toArray());
+
+        assertTrue(back.addAllFrom(list));
+        assertArrayEquals(new long[]{7, 8, 9, 10, 7, 8, 9}, back.toArray());
+    }
+
+    /**
+     * Тест проверяет, что очистка сохраняет ёмкость массива.
+     */
+    @Test
+    public void testClearKeepsCapacity() {
+        list.ensureCapacity(100);
+        list.add(1);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(100, list.capacity());
+        list.trimToSize();
+        assertEquals(0, list.capacity());
+        assertTrue(list.add(3));
+        assertEquals(3, list.getLong(0));
+    }
+
+    /**
+     * Тест проверяет, что сплитератор обнаруживает замену массива более коротким
+     * и выбрасывает {@link ConcurrentModificationException} до чтения элементов.
+     */
+    @Test
+    public void testSpliteratorFailFastAfterTrim() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Spliterator.OfLong spliterator = list.spliterator();
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        list.clear();
+        list.trimToSize();
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining((long value) -> { }));
+        assertThrows(ConcurrentModificationException.class, () -> prefix.tryAdvance((long value) -> { }));
+    }
+
+    /**
+     * Тест проверяет вставку коллекции по индексу в начало, середину и конец списка.
+     */
+    @Test
+    public void testAddAllAtIndex() {
+        list.addAll(Arrays.asList(1L, 4L, 5L));
+        assertTrue(list.addAll(1, Arrays.asList(2L, 3L)));
+        assertTrue(list.addAll(0, Arrays.asList(0L)));
+        assertTrue(list.addAll(6, Arrays.asList(6L)));
+        assertFalse(list.addAll(2, Arrays.asList()));
+        assertArrayEquals(new long[]{0L, 1L, 2L, 3L, 4L, 5L, 6L}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(8, Arrays.asList(7L)));
+        assertThrows(NullPointerException.class, () -> list.addAll(0, Arrays.asList(7L, null)));
+        assertEquals(7, list.size());
+    }
+}
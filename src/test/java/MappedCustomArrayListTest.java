@@ -0,0 +1,165 @@
+import com.edu.DefaultCustomArrayList;
+import com.edu.ElementCodec;
+import com.edu.MappedCustomArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link MappedCustomArrayList}.
+ * Проверяют сохранение и повторное открытие списка, фиксацию добавлений,
+ * контроль формата файла и контрольной суммы.
+ */
+public class MappedCustomArrayListTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Тест проверяет, что сохранённый список открывается с теми же элементами
+     * и что файл обрезается до точного размера данных.
+     */
+    @Test
+    public void testSaveAndOpen() throws IOException {
+        Path file = directory.resolve("list.bin");
+        DefaultCustomArrayList<Long> source = new DefaultCustomArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            source.add(i * i);
+        }
+        MappedCustomArrayList.save(source, ElementCodec.longs(), file);
+        assertEquals(128 + 1000 * 8, Files.size(file));
+
+        try (MappedCustomArrayList<Long> list = MappedCustomArrayList.open(file, ElementCodec.longs())) {
+            assertEquals(1000, list.size());
+            assertEquals(Long.valueOf(999L * 999L), list.get(999));
+            assertTrue(list.contains(25L));
+            assertFalse(list.contains(26L));
+            assertTrue(list.verify());
+            assertEquals(332833500L, list.stream().mapToLong(Long::longValue).sum());
+        }
+    }
+
+    /**
+     * Тест проверяет, что добавления и удаления сохраняются после фиксации,
+     * а в областях меньше списка элементы читаются через границы областей.
+     */
+    @Test
+    public void testAppendRemoveAndReopen() throws IOException {
+        Path file = directory.resolve("append.bin");
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(file, ElementCodec.ints(), 4, true)) {
+            list.addAll(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+            assertTrue(list.remove(3));
+            list.flush();
+            assertTrue(list.verify());
+            list.add(8);
+        }
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(file, ElementCodec.ints(), 4, false)) {
+            assertEquals(7, list.size());
+            assertEquals(Integer.valueOf(4), list.get(2));
+            assertEquals(Integer.valueOf(8), list.get(6));
+            assertTrue(list.verify());
+        }
+    }
+
+    /**
+     * Тест проверяет, что незафиксированные добавления не видны после повторного открытия,
+     * если файл не был закрыт (имитация аварийного завершения через копию файла).
+     */
+    @Test
+    public void testUncommittedTailIsIgnored() throws IOException {
+        Path file = directory.resolve("wal.bin");
+        Path crashed = directory.resolve("crashed.bin");
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.create(file, ElementCodec.ints())) {
+            list.add(1);
+            list.flush();
+            list.add(2);
+            Files.copy(file, crashed);
+        }
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(crashed, ElementCodec.ints())) {
+            assertEquals(1, list.size());
+            assertEquals(Integer.valueOf(1), list.get(0));
+        }
+    }
+
+    /**
+     * Тест проверяет, что незафиксированные удаление и перезапись после очистки откатываются
+     * при повторном открытии копии файла вместе с журналом отката.
+     */
+    @Test
+    public void testUncommittedRemoveIsRolledBack() throws IOException {
+        Path file = directory.resolve("undo.bin");
+        Path crashed = directory.resolve("crashed-undo.bin");
+        Path cleared = directory.resolve("crashed-clear.bin");
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.create(file, ElementCodec.ints())) {
+            list.addAll(Arrays.asList(1, 2, 3, 4));
+            list.flush();
+            list.remove(2);
+            list.add(5);
+            Files.copy(file, crashed);
+            Files.copy(directory.resolve("undo.bin.undo"), directory.resolve("crashed-undo.bin.undo"));
+
+            list.flush();
+            assertFalse(Files.exists(directory.resolve("undo.bin.undo")));
+            list.clear();
+            list.add(9);
+            Files.copy(file, cleared);
+            Files.copy(directory.resolve("undo.bin.undo"), directory.resolve("crashed-clear.bin.undo"));
+        }
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(crashed, ElementCodec.ints())) {
+            assertEquals(Arrays.asList(1, 2, 3, 4), Arrays.asList(list.get(0), list.get(1), list.get(2), list.get(3)));
+            assertTrue(list.verify());
+        }
+        assertFalse(Files.exists(directory.resolve("crashed-undo.bin.undo")));
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(cleared, ElementCodec.ints())) {
+            assertEquals(Arrays.asList(1, 3, 4, 5), Arrays.asList(list.get(0), list.get(1), list.get(2), list.get(3)));
+            assertTrue(list.verify());
+        }
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(file, ElementCodec.ints())) {
+            assertEquals(1, list.size());
+            assertEquals(Integer.valueOf(9), list.get(0));
+        }
+    }
+
+    /**
+     * Тест проверяет, что чтение открытого файла не увеличивает его.
+     */
+    @Test
+    public void testReadDoesNotGrowFile() throws IOException {
+        Path file = directory.resolve("small.bin");
+        MappedCustomArrayList.save(new DefaultCustomArrayList<>(new Integer[]{1, 2, 3}), ElementCodec.ints(), file);
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(file, ElementCodec.ints())) {
+            assertEquals(Integer.valueOf(3), list.get(2));
+            assertTrue(list.contains(2));
+            assertTrue(list.verify());
+            assertEquals(128 + 3 * 4, Files.size(file));
+            list.add(4);
+            assertEquals(Integer.valueOf(4), list.get(3));
+        }
+        assertEquals(128 + 4 * 4, Files.size(file));
+    }
+
+    /**
+     * Тест проверяет отказ при несовпадении кодека и обнаружение повреждённых данных.
+     */
+    @Test
+    public void testFormatChecks() throws IOException {
+        Path file = directory.resolve("checked.bin");
+        MappedCustomArrayList.save(new DefaultCustomArrayList<>(new Integer[]{1, 2, 3}), ElementCodec.ints(), file);
+        assertThrows(IOException.class, () -> MappedCustomArrayList.open(file, ElementCodec.longs()));
+
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(128 + 4);
+            raw.write(42);
+        }
+        try (MappedCustomArrayList<Integer> list = MappedCustomArrayList.open(file, ElementCodec.ints())) {
+            assertFalse(list.verify());
+        }
+    }
+}
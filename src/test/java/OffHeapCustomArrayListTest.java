@@ -0,0 +1,123 @@
+import com.edu.ElementCodec;
+import com.edu.OffHeapCustomArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link OffHeapCustomArrayList}.
+ * Используются маленькие сегменты, чтобы операции пересекали их границы.
+ */
+public class OffHeapCustomArrayListTest {
+
+    private OffHeapCustomArrayList<Long> list;
+
+    /**
+     * Создаёт список с сегментами по 4 элемента перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new OffHeapCustomArrayList<>(ElementCodec.longs(), 4);
+    }
+
+    /**
+     * Освобождает память списка после каждого теста.
+     */
+    @AfterEach
+    public void tearDown() {
+        list.close();
+    }
+
+    /**
+     * Тест проверяет добавление и чтение элементов в нескольких сегментах.
+     */
+    @Test
+    public void testAddAndGetAcrossSegments() {
+        for (long i = 0; i < 10; i++) {
+            assertTrue(list.add(i * 100));
+        }
+        assertFalse(list.add(null));
+        assertEquals(10, list.size());
+        assertEquals(12, list.capacity());
+        assertEquals(Long.valueOf(900), list.get(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+    }
+
+    /**
+     * Тест проверяет поиск и удаление со сдвигом через границу сегмента.
+     */
+    @Test
+    public void testContainsAndRemove() {
+        list.addAll(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L));
+        assertTrue(list.contains(5L));
+        assertFalse(list.contains(7L));
+        assertTrue(list.remove(2L));
+        assertFalse(list.remove(2L));
+        assertEquals(5, list.size());
+        assertEquals(Long.valueOf(5), list.get(3));
+        assertEquals(Long.valueOf(6), list.get(4));
+        assertEquals(19L, list.stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * Тест проверяет работу пользовательского кодека из двух полей.
+     */
+    @Test
+    public void testCustomCodec() {
+        ElementCodec<int[]> pairCodec = new ElementCodec<int[]>() {
+            @Override
+            public int width() {
+                return 2 * Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, int[] element) {
+                buffer.putInt(offset, element[0]);
+                buffer.putInt(offset + Integer.BYTES, element[1]);
+            }
+
+            @Override
+            public int[] read(ByteBuffer buffer, int offset) {
+                return new int[]{buffer.getInt(offset), buffer.getInt(offset + Integer.BYTES)};
+            }
+        };
+        try (OffHeapCustomArrayList<int[]> pairs = new OffHeapCustomArrayList<>(pairCodec, 2)) {
+            pairs.add(new int[]{1, 2});
+            pairs.add(new int[]{3, 4});
+            pairs.add(new int[]{5, 6});
+            assertArrayEquals(new int[]{3, 4}, pairs.get(1));
+            assertTrue(pairs.contains(new int[]{5, 6}));
+            assertTrue(pairs.remove(new int[]{1, 2}));
+            assertArrayEquals(new int[]{5, 6}, pairs.get(1));
+        }
+    }
+
+    /**
+     * Тест проверяет обнаружение изменений во время обхода, очистку и закрытие списка.
+     */
+    @Test
+    public void testIteratorClearAndClose() {
+        list.add(1L);
+        list.add(2L);
+        Iterator<Long> iterator = list.iterator();
+        assertEquals(Long.valueOf(1), iterator.next());
+        list.add(3L);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(4, list.capacity());
+
+        list.close();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.add(1L));
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+    }
+}
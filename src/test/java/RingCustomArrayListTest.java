@@ -0,0 +1,177 @@
+import com.edu.RingCustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link RingCustomArrayList}.
+ * Используется маленькая начальная ёмкость, чтобы элементы переходили через конец
+ * буфера и рост разворачивал кольцо.
+ */
+public class RingCustomArrayListTest {
+
+    private RingCustomArrayList<Integer> list;
+
+    /**
+     * Инициализирует новый пустой список с ёмкостью 4 перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new RingCustomArrayList<>(4);
+    }
+
+    /**
+     * Тест проверяет работу списка как очереди FIFO с переходом через конец буфера.
+     */
+    @Test
+    public void testFifo() {
+        for (int i = 0; i < 100; i++) {
+            list.addLast(i);
+            list.addLast(i + 1000);
+            assertEquals(Integer.valueOf(i), list.peekFirst());
+            assertEquals(Integer.valueOf(i), list.pollFirst());
+            assertEquals(Integer.valueOf(i + 1000), list.pollFirst());
+        }
+        assertTrue(list.isEmpty());
+        assertEquals(4, list.capacity());
+        assertNull(list.pollFirst());
+        assertNull(list.pollLast());
+        assertNull(list.peekFirst());
+        assertNull(list.peekLast());
+    }
+
+    /**
+     * Тест проверяет добавление в оба конца, рост с разворачиванием кольца и доступ по индексу.
+     */
+    @Test
+    public void testAddFirstAndLastWithGrowth() {
+        list.addLast(2);
+        list.addLast(3);
+        list.addFirst(1);
+        list.addFirst(0);
+        list.addLast(4);
+        list.addFirst(-1);
+        assertEquals(8, list.capacity());
+        assertEquals(Arrays.asList(-1, 0, 1, 2, 3, 4), toList());
+        assertEquals(Integer.valueOf(-1), list.get(0));
+        assertEquals(Integer.valueOf(4), list.get(5));
+        assertEquals(Integer.valueOf(4), list.pollLast());
+        assertEquals(Integer.valueOf(3), list.peekLast());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        assertThrows(NullPointerException.class, () -> list.addFirst(null));
+        assertFalse(list.add(null));
+    }
+
+    /**
+     * Тест сравнивает список с {@link ArrayDeque} и {@link ArrayList} на случайной
+     * последовательности операций с обоих концов и удалений по индексу.
+     */
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int action = random.nextInt(6);
+            if (action == 0) {
+                expected.add(0, step);
+                list.addFirst(step);
+            } else if (action == 1 && !expected.isEmpty()) {
+                assertEquals(expected.remove(0), list.pollFirst());
+            } else if (action == 2 && !expected.isEmpty()) {
+                assertEquals(expected.remove(expected.size() - 1), list.pollLast());
+            } else if (action == 3 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAt(index));
+            } else {
+                expected.add(step);
+                list.add(step);
+            }
+        }
+        assertEquals(expected, toList());
+        assertEquals(new ArrayList<>(new ArrayDeque<>(expected)), toList());
+    }
+
+    /**
+     * Тест проверяет удаление по значению, поиск, очистку и обнаружение изменений при обходе.
+     */
+    @Test
+    public void testRemoveClearAndIterator() {
+        list.addAll(Arrays.asList(1, 2, 3, 2));
+        list.pollFirst();
+        list.addLast(5);
+        assertEquals(1, list.indexOf(3));
+        assertTrue(list.remove(2));
+        assertFalse(list.contains(7));
+        assertEquals(Arrays.asList(3, 2, 5), toList());
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.pollLast();
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertNull(list.peekLast());
+        list.addFirst(9);
+        assertEquals(Integer.valueOf(9), list.get(0));
+    }
+
+    /**
+     * Тест проверяет вставку коллекции по индексу реализацией интерфейса по умолчанию.
+     */
+    @Test
+    public void testAddAllAtIndex() {
+        list.addAll(Arrays.asList(1, 4, 5));
+        list.pollFirst();
+        list.addFirst(1);
+        assertTrue(list.addAll(1, Arrays.asList(2, 3)));
+        assertTrue(list.addAll(5, Arrays.asList(6)));
+        assertTrue(list.addAll(0, Arrays.asList(0)));
+        assertFalse(list.addAll(2, new ArrayList<>()));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6), toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(8, Arrays.asList(7)));
+        assertThrows(NullPointerException.class, () -> list.addAll(0, Arrays.asList(7, null)));
+        assertEquals(7, list.size());
+    }
+
+    private List<Integer> toList() {
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        assertEquals(result, list.stream().collect(Collectors.toList()));
+        return result;
+    }
+
+    /**
+     * Тест сравнивает вставку по индексу с {@link ArrayList} на кольце, перешедшем через конец
+     * массива, при сдвиге как головы, так и хвоста и при расширении буфера.
+     */
+    @Test
+    public void testAddAllAtIndexMatchesArrayList() {
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 300; step++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                assertEquals(expected.remove(0), list.pollFirst());
+                continue;
+            }
+            List<Integer> batch = new ArrayList<>();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                batch.add(step * 10 + i);
+            }
+            int index = random.nextInt(expected.size() + 1);
+            expected.addAll(index, batch);
+            assertEquals(!batch.isEmpty(), list.addAll(index, batch));
+        }
+        assertEquals(expected, toList());
+    }
+}
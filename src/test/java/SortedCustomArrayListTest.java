@@ -0,0 +1,168 @@
+import com.edu.CustomArrayList;
+import com.edu.SortedCustomArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты для класса {@link SortedCustomArrayList}.
+ */
+public class SortedCustomArrayListTest {
+
+    private SortedCustomArrayList<Integer> list;
+
+    /**
+     * Инициализирует новый пустой список с естественным порядком перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        list = new SortedCustomArrayList<>(Comparator.naturalOrder(), 2);
+    }
+
+    /**
+     * Тест проверяет, что добавление поддерживает порядок, а поиск находит первое вхождение.
+     */
+    @Test
+    public void testAddKeepsOrder() {
+        for (int value : new int[]{5, 1, 4, 1, 3, 9}) {
+            assertTrue(list.add(value));
+        }
+        assertFalse(list.add(null));
+        assertEquals(Arrays.asList(1, 1, 3, 4, 5, 9), toList());
+        assertEquals(0, list.indexOf(1));
+        assertEquals(3, list.indexOf(4));
+        assertEquals(-1, list.indexOf(2));
+        assertTrue(list.contains(9));
+        assertFalse(list.contains(10));
+        assertTrue(list.remove(1));
+        assertFalse(list.remove(7));
+        assertEquals(Arrays.asList(1, 3, 4, 5, 9), toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+    }
+
+    /**
+     * Тест проверяет пакетное слияние и его устойчивость: равные по компаратору элементы
+     * остаются в порядке добавления.
+     */
+    @Test
+    public void testAddAllMergesStably() {
+        SortedCustomArrayList<String> byLength = new SortedCustomArrayList<>(Comparator.comparingInt(String::length));
+        byLength.add("bb");
+        byLength.add("dddd");
+        assertTrue(byLength.addAll(Arrays.asList("cc", "a", "eeee", "fff")));
+        assertFalse(byLength.addAll(Collections.emptyList()));
+        List<String> result = new ArrayList<>();
+        byLength.forEach(result::add);
+        assertEquals(Arrays.asList("a", "bb", "cc", "fff", "dddd", "eeee"), result);
+        assertThrows(NullPointerException.class, () -> byLength.addAll(Arrays.asList("x", null)));
+        assertThrows(UnsupportedOperationException.class, () -> byLength.addAll(0, Arrays.asList("x")));
+        assertEquals(6, byLength.size());
+    }
+
+    /**
+     * Тест проверяет, что исключение в предикате {@code removeIf} удаляет только уже
+     * отмеченные элементы, а изменение списка предикатом не портит массив.
+     */
+    @Test
+    public void testRemoveIfOnFailure() {
+        list.addAll(Arrays.asList(5, 1, 4, 2, 3));
+        assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if (value == 4) {
+                throw new IllegalStateException();
+            }
+            return value == 2;
+        }));
+        assertEquals(Arrays.asList(1, 3, 4, 5), toList());
+
+        assertThrows(ConcurrentModificationException.class, () -> list.removeIf(value -> {
+            if (value == 3) {
+                list.add(0);
+            }
+            return value == 1;
+        }));
+        assertEquals(Arrays.asList(0, 1, 3, 4, 5), toList());
+    }
+
+    /**
+     * Тест сравнивает список с отсортированным {@link ArrayList} на случайных пакетах,
+     * одиночных вставках и удалениях.
+     */
+    @Test
+    public void testRandomOperationsMatchSortedArrayList() {
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 500; step++) {
+            int action = random.nextInt(3);
+            if (action == 0) {
+                List<Integer> batch = random.ints(random.nextInt(20), 0, 200).boxed().collect(Collectors.toList());
+                expected.addAll(batch);
+                list.addAll(batch);
+            } else if (action == 1) {
+                int value = random.nextInt(200);
+                expected.add(value);
+                list.add(value);
+            } else {
+                Integer value = random.nextInt(200);
+                assertEquals(expected.remove(value), list.remove(value));
+            }
+            Collections.sort(expected);
+        }
+        assertEquals(expected, toList());
+    }
+
+    /**
+     * Тест проверяет представление диапазона ключей: отражение изменений в обе стороны
+     * и запрет добавления вне диапазона.
+     */
+    @Test
+    public void testSubRangeView() {
+        list.addAll(Arrays.asList(1, 3, 5, 7, 9, 11));
+        CustomArrayList<Integer> range = list.subRange(3, 9);
+        assertEquals(Arrays.asList(3, 5, 7), range.stream().collect(Collectors.toList()));
+        assertEquals(Integer.valueOf(5), range.get(1));
+        assertFalse(range.contains(9));
+
+        list.add(4);
+        assertEquals(4, range.size());
+        assertTrue(range.add(8));
+        assertThrows(IllegalArgumentException.class, () -> range.add(10));
+        assertFalse(range.remove(11));
+        assertTrue(range.remove(3));
+        assertEquals(Arrays.asList(1, 4, 5, 7, 8, 9, 11), toList());
+
+        range.clear();
+        assertTrue(range.isEmpty());
+        assertEquals(Arrays.asList(1, 9, 11), toList());
+        assertThrows(IllegalArgumentException.class, () -> list.subRange(9, 3));
+    }
+
+    /**
+     * Тест проверяет обнаружение изменений во время обхода.
+     */
+    @Test
+    public void testIteratorFailFast() {
+        list.addAll(Arrays.asList(2, 1));
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    private List<Integer> toList() {
+        List<Integer> result = new ArrayList<>();
+        list.forEach(result::add);
+        assertEquals(result, list.stream().collect(Collectors.toList()));
+        return result;
+    }
+}